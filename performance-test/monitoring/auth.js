@@ -51,4 +51,28 @@ export function generateToken(host, email, password) {
     return res.json('response.accessToken');
 }
 
-const users = JSON.parse(open('./users.json'));
\ No newline at end of file
+const users = JSON.parse(open('./users.json'));
+// 부하 테스트용 학생 계정을 생성(이미 존재하면 무시)하고 토큰을 발급하는 함수
+export function generateStudentTokens(host, count) {
+    if (host === undefined) {
+        host = defaultHost;
+    }
+
+    const tokens = [];
+    for (let i = 1; i <= count; i++) {
+        const email = `monitoring-student${String(i).padStart(3, '0')}@didacto.test`;
+        const password = "abcasdj456789!!";
+
+        http.post(host + "/api/v1/auth/signup", JSON.stringify({
+            email: email,
+            password: password,
+            name: "학생" + i,
+            birth: "20000101",
+            authority: "USER"
+        }), { headers: { "Content-Type": "application/json" } });
+
+        tokens.push(generateToken(host, email, password));
+    }
+
+    return tokens;
+}
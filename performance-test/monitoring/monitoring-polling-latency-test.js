@@ -0,0 +1,87 @@
+import http from "k6/http";
+import { sleep, check } from 'k6';
+import { Trend } from 'k6/metrics';
+import { generateToken, generateStudentTokens } from './auth.js';
+
+const host = "http://localhost:8080";
+const lectureId = 1;
+
+// 강의당 학생 수 (30 / 60 / 120)
+// k6 run -e STUDENTS=60 monitoring-polling-latency-test.js
+// 개선 전/후 커밋에서 각각 실행하여 monitoring_polling_duration 의 p(99) 를 비교한다.
+const students = parseInt(__ENV.STUDENTS || '30');
+
+const pollingDuration = new Trend('monitoring_polling_duration', true);
+
+export let options = {
+    summaryTrendStats: ['avg', 'med', 'p(90)', 'p(95)', 'p(99)', 'max'],
+    setupTimeout: '300s',
+    scenarios: {
+        upload: {
+            executor: 'constant-vus',
+            exec: 'upload',
+            vus: students,
+            duration: '70s',
+        },
+        polling: {
+            executor: 'constant-vus',
+            exec: 'poll',
+            vus: 1,
+            duration: '60s',
+            // 모든 학생의 업로드가 한 바퀴 돈 뒤부터 측정
+            startTime: '10s',
+        },
+    },
+};
+
+export function setup() {
+    const tutorToken = generateToken(host, users[0].email, users[0].password);
+    const studentTokens = generateStudentTokens(host, students);
+    return { tutorToken, studentTokens };
+}
+
+// 학생: 1초마다 화면 이미지 업로드 (VU 별로 서로 다른 학생 계정 사용)
+export function upload({ studentTokens }) {
+    const image = images[__VU % images.length];
+
+    const payload = JSON.stringify({
+        lectureId: lectureId,
+        encodedImageBase64: image.base64,
+    });
+
+    const params = {
+        headers: {
+            'Content-Type': 'application/json',
+            'Authorization': 'Bearer ' + studentTokens[(__VU - 1) % studentTokens.length]
+        },
+    };
+
+    let res = http.post(host + '/api/v1/monitoring/image/upload', payload, params);
+
+    check(res, {
+        '학생 화면 이미지 업로드': (r) => r.status === 200,
+    });
+
+    sleep(1);
+}
+
+// 교수자: 1초마다 강의 전체 이미지 폴링
+export function poll({ tutorToken }) {
+    const params = {
+        headers: {
+            'Authorization': 'Bearer ' + tutorToken
+        },
+    };
+
+    let res = http.get(host + '/api/v1/monitoring/images?lectureId=' + lectureId, params);
+
+    check(res, {
+        '모니터링 이미지 폴링': (r) => r.status === 200,
+    });
+    pollingDuration.add(res.timings.duration);
+
+    sleep(1);
+}
+
+const images = JSON.parse(open('./sample-image-base64.json'));
+const users = JSON.parse(open('./users.json'));
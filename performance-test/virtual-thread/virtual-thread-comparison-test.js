@@ -0,0 +1,84 @@
+import http from "k6/http";
+import encoding from "k6/encoding";
+import { check } from 'k6';
+import { generateStudentTokens } from '../monitoring/auth.js';
+
+// 플랫폼 스레드 / 가상 스레드 처리량 비교
+// 1. ./gradlew bootRun                 -> k6 run --summary-export=platform.json virtual-thread-comparison-test.js
+// 2. ./gradlew bootRun -Pvirtual       -> k6 run --summary-export=virtual.json virtual-thread-comparison-test.js
+// 두 결과의 http_reqs(rate), http_req_duration p(99) 를 엔드포인트(endpoint 태그)별로 비교
+// 가상 스레드 모드에서는 -Djdk.tracePinnedThreads=short 로 고정(pinning) 구간이 서버 로그에 출력된다.
+const host = __ENV.HOST || "http://localhost:8080";
+const lectureId = __ENV.LECTURE_ID || 1;
+const studentCount = 50;
+
+export let options = {
+    scenarios: {
+        enrollment: {
+            executor: 'ramping-vus',
+            exec: 'queryEnrollments',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 200 },
+                { duration: '60s', target: 800 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+        upload: {
+            executor: 'ramping-vus',
+            exec: 'uploadImage',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 200 },
+                { duration: '60s', target: 800 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+    },
+    setupTimeout: '120s',
+    thresholds: {
+        'http_req_duration{endpoint:enrollment}': ['p(99)<2000'],
+        'http_req_duration{endpoint:upload}': ['p(99)<2000'],
+        'http_reqs{endpoint:enrollment}': ['count>0'],
+        'http_reqs{endpoint:upload}': ['count>0'],
+    },
+};
+
+export function setup() {
+    const tokens = generateStudentTokens(host, studentCount);
+    return { tokens };
+}
+
+// 학생 강의 등록 요청 목록 조회 (DB 조회 위주)
+export function queryEnrollments({tokens}) {
+    const token = tokens[(__VU - 1) % tokens.length];
+    const res = http.get(host + '/api/v1/enrollment/list/member?page=0&size=10', {
+        headers: { 'Authorization': 'Bearer ' + token },
+        tags: { endpoint: 'enrollment' },
+    });
+
+    check(res, {
+        '강의 등록 요청 목록 조회': (r) => r.status === 200,
+    });
+}
+
+// 학생 화면 이미지 업로드 (Redis 저장 위주)
+export function uploadImage({tokens}) {
+    const token = tokens[(__VU - 1) % tokens.length];
+    const image = images[Math.floor(Math.random() * images.length)];
+
+    const res = http.post(host + '/api/v1/monitoring/image/upload/binary?lectureId=' + lectureId, image, {
+        headers: {
+            'Content-Type': 'image/jpeg',
+            'Authorization': 'Bearer ' + token
+        },
+        tags: { endpoint: 'upload' },
+    });
+
+    check(res, {
+        '학생 화면 이미지 업로드': (r) => r.status === 200,
+    });
+}
+
+const images = JSON.parse(open('../monitoring/sample-image-base64.json'))
+    .map((image) => encoding.b64decode(image.base64.substring(image.base64.indexOf(",") + 1)));
@@ -0,0 +1,87 @@
+package com.didacto.benchmark;
+
+import com.didacto.config.security.custom.CustomUserDetailsService;
+import com.didacto.config.security.jwt.JwtAuthenticationCache;
+import com.didacto.config.security.jwt.JwtFilter;
+import com.didacto.config.security.jwt.TokenProvider;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 요청 당 인증 처리 비용 비교 (인증 정보 캐시 사용 여부)
+ * ./gradlew jmh -Pjmh.includes=JwtFilterBenchmark
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "UGxlYXNlIGRvIG5vdCBkZWNyeXB0IHRoaXMuIEl0J3MgY29uZmlkZW50aWFsLCBpdCdzIG91ciBzZWNyZXQuIGl0IGlzIG11c3QgYmUgNjQgYnl0ZXMuIHNvIHNhZC4gaG93IGFyZSB5b3UgaSdtIG5vdCBmaW5lIHRoYW5rIHlvdSBhbmQgeW91PyBpIHdhbnQgZ28gaG9tZSBmZg==";
+
+    private JwtFilter cachedFilter;
+    private JwtFilter uncachedFilter;
+    private MockHttpServletRequest request;
+    private final FilterChain chain = (request, response) -> { };
+
+    @Setup
+    public void setup() throws Exception {
+        // 요청 당 인증에는 DB/Redis 를 사용하지 않음
+        TokenProvider tokenProvider = new TokenProvider(SECRET, SECRET, new CustomUserDetailsService(null, null), null);
+        String token = Jwts.builder()
+                .setSubject("student@didacto.com")
+                .claim("auth", "ROLE_USER")
+                .claim("Id", 1L)
+                .claim("grade", "FREETEER")
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS512)
+                .compact();
+
+        cachedFilter = new JwtFilter(tokenProvider, new JwtAuthenticationCache(10000, new SimpleMeterRegistry()));
+        // 항상 캐시 미스
+        uncachedFilter = new JwtFilter(tokenProvider, new JwtAuthenticationCache(10000, new SimpleMeterRegistry()) {
+            @Override
+            public Authentication get(String token) {
+                return null;
+            }
+        });
+
+        request = new MockHttpServletRequest();
+        request.addHeader(JwtFilter.AUTHORIZATION_HEADER, JwtFilter.BEARER_PREFIX + token);
+        cachedFilter.doFilter(request, new MockHttpServletResponse(), chain);
+    }
+
+    @Benchmark
+    public Authentication withCache() throws Exception {
+        return filter(cachedFilter);
+    }
+
+    @Benchmark
+    public Authentication withoutCache() throws Exception {
+        return filter(uncachedFilter);
+    }
+
+    private Authentication filter(JwtFilter filter) throws Exception {
+        // OncePerRequestFilter 의 중복 실행 표시 제거
+        request.clearAttributes();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,97 @@
+package com.didacto.benchmark;
+
+import com.didacto.common.util.ImageBase64Util;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 강의 스냅샷(학생 30명) 보관/응답 변환 비용 비교 (힙 byte[] vs Pooled Direct 버퍼)
+ * ./gradlew jmh -Pjmh.includes=MonitoringFrameBufferBenchmark
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 확인
+ * GC 정지 시간은 -Xlog:gc 로 서버를 실행한 상태에서 monitoring-lecture-load-test.js 를 돌리고
+ * /actuator/metrics/jvm.gc.pause 를 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MonitoringFrameBufferBenchmark {
+
+    private static final int STUDENTS = 30;
+
+    @Param({"51200", "204800"})
+    private int frameSize;
+
+    private byte[] upload;
+    private byte[][] heapFrames;
+    private ByteBuf[] directFrames;
+    private final byte[] chunk = new byte[8 * 1024];
+
+    @Setup
+    public void setup() {
+        upload = new byte[frameSize];
+        ThreadLocalRandom.current().nextBytes(upload);
+        heapFrames = new byte[STUDENTS][];
+        directFrames = new ByteBuf[STUDENTS];
+        for (int i = 0; i < STUDENTS; i++) {
+            heapFrames[i] = upload.clone();
+            directFrames[i] = PooledByteBufAllocator.DEFAULT.directBuffer(frameSize).writeBytes(upload);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (ByteBuf frame : directFrames) {
+            frame.release();
+        }
+    }
+
+    // 새 프레임으로 교체 (캐시가 보관하는 복사본 생성)
+    @Benchmark
+    public void heapReplace() {
+        int index = ThreadLocalRandom.current().nextInt(STUDENTS);
+        heapFrames[index] = upload.clone();
+    }
+
+    @Benchmark
+    public void directReplace() {
+        int index = ThreadLocalRandom.current().nextInt(STUDENTS);
+        ByteBuf previous = directFrames[index];
+        directFrames[index] = PooledByteBufAllocator.DEFAULT.directBuffer(frameSize).writeBytes(upload);
+        previous.release();
+    }
+
+    // 폴링 응답 생성 (강의 전체 Base64 변환)
+    @Benchmark
+    public void heapEncode(Blackhole blackhole) {
+        for (byte[] frame : heapFrames) {
+            blackhole.consume(ImageBase64Util.encode(frame));
+        }
+    }
+
+    @Benchmark
+    public void directEncode(Blackhole blackhole) {
+        for (ByteBuf frame : directFrames) {
+            blackhole.consume(ImageBase64Util.encode(frame.nioBuffer()));
+        }
+    }
+
+    // 스트리밍 응답 방식 (Direct 버퍼에서 출력 스트림으로 바로 인코딩)
+    @Benchmark
+    public void directStream(Blackhole blackhole) throws IOException {
+        OutputStream output = OutputStream.nullOutputStream();
+        for (ByteBuf frame : directFrames) {
+            ImageBase64Util.write(frame.nioBuffer(), output, chunk);
+        }
+        blackhole.consume(output);
+    }
+}
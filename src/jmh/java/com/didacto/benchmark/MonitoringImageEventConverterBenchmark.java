@@ -0,0 +1,64 @@
+package com.didacto.benchmark;
+
+import com.didacto.config.rabbitmq.MonitoringImageEventMessageConverter;
+import com.didacto.dto.monitoring.MonitoringImageEvent;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모니터링 이미지 이벤트 변환 처리량/할당량 비교 (바이너리 vs Jackson)
+ * ./gradlew jmh -Pjmh.includes=MonitoringImageEventConverterBenchmark
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MonitoringImageEventConverterBenchmark {
+
+    @Param({"51200", "204800", "512000"})
+    private int frameSize;
+
+    private final Jackson2JsonMessageConverter jsonConverter = new Jackson2JsonMessageConverter();
+    private final MonitoringImageEventMessageConverter binaryConverter = new MonitoringImageEventMessageConverter(jsonConverter);
+
+    private MonitoringImageEvent event;
+    private Message jsonMessage;
+    private Message binaryMessage;
+
+    @Setup
+    public void setup() {
+        byte[] image = new byte[frameSize];
+        ThreadLocalRandom.current().nextBytes(image);
+        event = MonitoringImageEvent.createDataEvent(1L, 2L, image, "1a2b3c4d", System.currentTimeMillis());
+        jsonMessage = jsonConverter.toMessage(event, new MessageProperties());
+        binaryMessage = binaryConverter.toMessage(event, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message jacksonEncode() {
+        return jsonConverter.toMessage(event, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object jacksonDecode() {
+        return jsonConverter.fromMessage(jsonMessage);
+    }
+
+    @Benchmark
+    public Message binaryEncode() {
+        return binaryConverter.toMessage(event, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object binaryDecode() {
+        return binaryConverter.fromMessage(binaryMessage);
+    }
+}
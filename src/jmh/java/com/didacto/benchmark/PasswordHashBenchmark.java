@@ -0,0 +1,39 @@
+package com.didacto.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt cost 별 로그인(비밀번호 검증) 처리량
+ * 코어 수만큼의 스레드로 측정하므로 결과(ops/s)를 코어 수로 나누면 코어당 초당 로그인 수
+ * auth.password.bcrypt-strength 를 정할 때 강의 시작 직후의 동시 로그인 수와 비교한다.
+ * ./gradlew jmh -Pjmh.includes=PasswordHashBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(Threads.MAX)
+@Fork(1)
+public class PasswordHashBenchmark {
+
+    @Param({"10", "11", "12"})
+    private int strength;
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setup() {
+        passwordEncoder = new BCryptPasswordEncoder(strength);
+        encodedPassword = passwordEncoder.encode("didacto-password");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("didacto-password", encodedPassword);
+    }
+}
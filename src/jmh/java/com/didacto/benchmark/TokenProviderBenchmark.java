@@ -0,0 +1,64 @@
+package com.didacto.benchmark;
+
+import com.didacto.config.security.custom.CustomUserDetailsService;
+import com.didacto.config.security.jwt.TokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access Token 검증 + Authentication 생성 비용 비교
+ * - perCallParser : 호출마다 파서를 만들고 검증/Claims 조회에서 두 번 검증 (기존 방식)
+ * - prebuiltParser : 미리 생성한 파서로 한 번 검증한 Claims 를 그대로 사용
+ * ./gradlew jmh -Pjmh.includes=TokenProviderBenchmark
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenProviderBenchmark {
+
+    private static final String SECRET = "UGxlYXNlIGRvIG5vdCBkZWNyeXB0IHRoaXMuIEl0J3MgY29uZmlkZW50aWFsLCBpdCdzIG91ciBzZWNyZXQuIGl0IGlzIG11c3QgYmUgNjQgYnl0ZXMuIHNvIHNhZC4gaG93IGFyZSB5b3UgaSdtIG5vdCBmaW5lIHRoYW5rIHlvdSBhbmQgeW91PyBpIHdhbnQgZ28gaG9tZSBmZg==";
+
+    private Key key;
+    private TokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setup() {
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        tokenProvider = new TokenProvider(SECRET, SECRET, new CustomUserDetailsService(null, null), null);
+        token = Jwts.builder()
+                .setSubject("student@didacto.com")
+                .claim("auth", "ROLE_USER")
+                .claim("Id", 1L)
+                .claim("grade", "FREETEER")
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(key, SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    @Benchmark
+    public Authentication perCallParser() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return tokenProvider.getAuthentication(claims);
+    }
+
+    @Benchmark
+    public Authentication prebuiltParser() {
+        Claims claims = tokenProvider.parseAccessToken(token).orElseThrow().getBody();
+        return tokenProvider.getAuthentication(claims);
+    }
+}
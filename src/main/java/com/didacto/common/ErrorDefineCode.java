@@ -21,6 +21,7 @@ public enum ErrorDefineCode {
     AUTH_AUTHORITY_FAIL("ERR_10","USER와 ADMIN중 선택해야합니다."),
     MEMBER_NOT_FOUND("ERR_11","회원을 찾을 수 없습니다."),
     MEMBER_UNRESISTER("ERR_12","탈퇴된 회원입니다."),
+    AUTH_PASSWORD_BUSY("ERR_13", "로그인 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
     USER_NOT_FOUND("ENROLL_1", "해당 사용자를 찾을 수 없습니다."),
     ALREADY_ENROLL_REQUEST("ENROLL_2", "이미 교수자에게 강의 등록 요청을 보냈습니다."),
     ALREADY_JOIN("ENROLL_3", "이미 강의에 등록된 상태입니다."),
@@ -43,6 +44,12 @@ public enum ErrorDefineCode {
 
     IAMPORT_NOT_FOUND_RESPONSE("IAMPORT_01","포트원 서비스가 정상 작동되고 있지 않습니다."),
     IAMPORT_NETWORT_ERROR("IAMPORT_02","포트원 서비스 처리 중 네트워크에 오류가 발생했습니다."),
+    MONITORING_IMAGE_EMPTY("MONITORING_01", "업로드된 이미지가 없습니다."),
+    MONITORING_IMAGE_TOO_LARGE("MONITORING_02", "업로드 가능한 이미지 크기를 초과했습니다."),
+    MONITORING_IMAGE_INVALID_ENCODING("MONITORING_03", "Base64 형식의 이미지가 아닙니다."),
+    MONITORING_IMAGE_READ_FAIL("MONITORING_04", "이미지를 읽는 중 오류가 발생했습니다."),
+    MONITORING_IMAGE_NOT_FOUND("MONITORING_05", "해당 학생의 최신 화면 이미지를 찾을 수 없습니다."),
+    MONITORING_LECTURE_ID_INVALID("MONITORING_06", "lectureId 가 없거나 숫자가 아닙니다."),
 
     REDIS_COMMAND_FAIL("FATAL_REDIS_01", "Redis Command에 실패하였습니다.")
     ;
@@ -0,0 +1,57 @@
+package com.didacto.common.util;
+
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class ImageBase64Util {
+
+    private static final String DATA_URL_PREFIX = "data:image/jpeg;base64,";
+    private static final byte[] DATA_URL_PREFIX_BYTES = DATA_URL_PREFIX.getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Base64 문자열(data URL 접두사 허용)을 원본 이미지 바이트로 변환
+     */
+    public static byte[] decode(String encodedImage) {
+        int dataIndex = encodedImage.startsWith("data:") ? encodedImage.indexOf(',') + 1 : 0;
+        return Base64.getDecoder().decode(encodedImage.substring(dataIndex));
+    }
+
+    /**
+     * 원본 이미지 바이트를 클라이언트에서 바로 사용할 수 있는 data URL 형식의 Base64 문자열로 변환
+     */
+    public static String encode(byte[] image) {
+        return DATA_URL_PREFIX + Base64.getEncoder().encodeToString(image);
+    }
+
+    /**
+     * 버퍼(Direct 버퍼 포함)의 남은 바이트를 data URL 형식의 Base64 문자열로 변환
+     * 응답 DTO 가 문자열을 필요로 하는 경우에만 사용하며, 스트리밍 응답은 write 를 사용
+     */
+    public static String encode(ByteBuffer image) {
+        ByteBuffer encoded = Base64.getEncoder().encode(image);
+        return DATA_URL_PREFIX + new String(encoded.array(), 0, encoded.limit(), StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 버퍼(Direct 버퍼 포함)의 남은 바이트를 data URL 형식의 Base64 로 출력 스트림에 바로 기록
+     * 인코딩 결과 문자열이나 이미지 크기의 배열을 만들지 않으며, 출력 스트림은 닫지 않는다.
+     * @param chunk 버퍼에서 읽어 올 때 재사용하는 배열 (요청 단위로 재사용)
+     */
+    public static void write(ByteBuffer image, OutputStream outputStream, byte[] chunk) throws IOException {
+        outputStream.write(DATA_URL_PREFIX_BYTES);
+        ByteBuffer source = image.duplicate();
+        try (OutputStream encoder = Base64.getEncoder().wrap(StreamUtils.nonClosing(outputStream))) {
+            while (source.hasRemaining()) {
+                int length = Math.min(chunk.length, source.remaining());
+                source.get(chunk, 0, length);
+                encoder.write(chunk, 0, length);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.didacto.common.util;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+public class ImageThumbnailUtil {
+
+    /**
+     * 가로 maxWidth 이하로 비율을 유지하여 축소한 JPEG 반환
+     * 헤더의 가로/세로 크기를 먼저 확인하여 maxPixels 를 넘으면 디코딩하지 않으며,
+     * 디코딩은 maxWidth 에 가까운 크기로 건너뛰며(subsampling) 읽어 원본 크기의 버퍼를 만들지 않는다.
+     * @param quality JPEG 압축 품질 (0 ~ 1)
+     * @param maxPixels 허용하는 원본의 최대 픽셀 수 (가로 * 세로)
+     * @throws IOException 이미지로 읽을 수 없거나 maxPixels 를 넘는 경우
+     */
+    public static byte[] resize(byte[] image, int maxWidth, float quality, long maxPixels) throws IOException {
+        BufferedImage source = read(image, maxWidth, maxPixels);
+
+        int width = Math.min(maxWidth, source.getWidth());
+        int height = Math.max(1, (int) ((long) source.getHeight() * width / source.getWidth()));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        }
+        finally {
+            graphics.dispose();
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream(image.length / 8);
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(target, null, null), param);
+        }
+        finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    // 크기 확인 후 maxWidth 이상이 유지되는 가장 큰 간격으로 건너뛰며 디코딩
+    private static BufferedImage read(byte[] image, int maxWidth, long maxPixels) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(image))) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                if (sourceWidth <= 0 || sourceHeight <= 0 || (long) sourceWidth * sourceHeight > maxPixels) {
+                    throw new IOException("image too large: " + sourceWidth + "x" + sourceHeight);
+                }
+
+                int step = Math.max(1, sourceWidth / maxWidth);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            }
+            finally {
+                reader.dispose();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.didacto.common.util;
+
+import java.util.zip.CRC32C;
+
+public class ImageVersionUtil {
+
+    /**
+     * 이미지 내용 기반 버전 (CRC32C + 길이, 16자리 hex)
+     * 화면 변경 여부 판단용이며 보안 목적의 해시가 아님
+     */
+    public static String version(byte[] image) {
+        CRC32C crc = new CRC32C();
+        crc.update(image, 0, image.length);
+        return String.format("%08x%08x", crc.getValue(), image.length);
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.didacto.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+public class TokenDigestUtil {
+
+    /**
+     * 토큰의 SHA-256 다이제스트 (32바이트)
+     */
+    public static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        }
+        catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 구현에 포함된 알고리즘
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 다이제스트 비교 (일치하는 길이와 관계없이 같은 시간이 걸리도록 비교)
+     */
+    public static boolean matches(byte[] expected, byte[] actual) {
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.didacto.config.exception.custom.exception;
+
+import com.didacto.common.ErrorDefineCode;
+import com.didacto.config.exception.custom.BasicCustomException500;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 429 : 처리 가능한 요청 수를 초과한 경우 (로그인 요청 폭주 등..)
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRequestsException429 extends BasicCustomException500 {
+    public TooManyRequestsException429(ErrorDefineCode code) {
+        super(code);
+    }
+}
@@ -0,0 +1,59 @@
+package com.didacto.config.rabbitmq;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * rabbitmq.delivery-mode=broadcast
+ * Fanout Exchange 로 발행하고 인스턴스마다 전용 Exclusive Queue 를 두어
+ * 모든 인스턴스가 모든 이벤트를 수신한다. (로드밸런서 뒤의 어느 노드에 연결되어도 이벤트 유실 없음)
+ */
+@Configuration
+@ConditionalOnProperty(name = "rabbitmq.delivery-mode", havingValue = "broadcast")
+public class BroadcastTopologyConfig {
+
+    @Value("${rabbitmq.fanout-exchange.name}")
+    private String fanoutExchangeName;
+
+    /**
+     * 인스턴스 전용 Queue (Non-durable, Exclusive, Auto-delete)
+     */
+    @Bean
+    public Queue monitoringEventQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy("monitoring-image-broadcast."));
+    }
+
+    @Bean
+    public FanoutExchange fanoutExchange() {
+        return new FanoutExchange(fanoutExchangeName);
+    }
+
+    @Bean
+    public Binding broadcastBinding(Queue monitoringEventQueue, FanoutExchange fanoutExchange) {
+        return BindingBuilder.bind(monitoringEventQueue).to(fanoutExchange);
+    }
+
+    @Bean
+    public MonitoringEventTopology monitoringEventTopology() {
+        return new MonitoringEventTopology() {
+            @Override
+            public String getExchange() {
+                return fanoutExchangeName;
+            }
+
+            // Fanout Exchange 는 Routing Key 를 사용하지 않음
+            @Override
+            public String getRoutingKey(Long lectureId) {
+                return "";
+            }
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package com.didacto.config.rabbitmq;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 강의별 Routing Key(monitoring.lecture.{lectureId})로 발행하고,
+ * 인스턴스 전용 Queue 에는 현재 스트림을 제공 중인 강의만 바인딩한다.
+ */
+@Slf4j
+public class LectureTopicTopology implements MonitoringEventTopology {
+
+    private static final String ROUTING_KEY = "monitoring.lecture.%d";
+
+    private final AmqpAdmin amqpAdmin;
+    private final TopicExchange exchange;
+    private final Queue queue;
+    private final Set<Long> boundLectures = ConcurrentHashMap.newKeySet();
+
+    public LectureTopicTopology(AmqpAdmin amqpAdmin, TopicExchange exchange, Queue queue) {
+        this.amqpAdmin = amqpAdmin;
+        this.exchange = exchange;
+        this.queue = queue;
+    }
+
+    @Override
+    public String getExchange() {
+        return exchange.getName();
+    }
+
+    @Override
+    public String getRoutingKey(Long lectureId) {
+        return String.format(ROUTING_KEY, lectureId);
+    }
+
+    @Override
+    public void bindLecture(Long lectureId) {
+        boundLectures.add(lectureId);
+        amqpAdmin.declareBinding(binding(lectureId));
+        log.debug("lecture{} bound to {}", lectureId, queue.getName());
+    }
+
+    @Override
+    public void unbindLecture(Long lectureId) {
+        boundLectures.remove(lectureId);
+        amqpAdmin.removeBinding(binding(lectureId));
+        log.debug("lecture{} unbound from {}", lectureId, queue.getName());
+    }
+
+    /**
+     * 재연결로 Queue 가 새로 선언된 경우 기존 강의 바인딩 복구
+     */
+    public void rebindAll() {
+        for (Long lectureId : boundLectures) {
+            amqpAdmin.declareBinding(binding(lectureId));
+        }
+    }
+
+    private Binding binding(Long lectureId) {
+        return BindingBuilder.bind(queue).to(exchange).with(getRoutingKey(lectureId));
+    }
+}
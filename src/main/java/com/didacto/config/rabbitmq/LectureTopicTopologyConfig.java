@@ -0,0 +1,49 @@
+package com.didacto.config.rabbitmq;
+
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * rabbitmq.delivery-mode=lecture
+ * Topic Exchange 에 강의별 Routing Key 로 발행하고, 인스턴스마다 Auto-delete Queue 를 두어
+ * 해당 인스턴스가 스트림을 제공 중인 강의의 이벤트만 수신한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "rabbitmq.delivery-mode", havingValue = "lecture")
+public class LectureTopicTopologyConfig {
+
+    @Value("${rabbitmq.topic-exchange.name}")
+    private String topicExchangeName;
+
+    /**
+     * 인스턴스 전용 Queue (Non-durable, Exclusive, Auto-delete)
+     */
+    @Bean
+    public Queue monitoringEventQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy("monitoring-image-lecture."));
+    }
+
+    @Bean
+    public TopicExchange topicExchange() {
+        return new TopicExchange(topicExchangeName);
+    }
+
+    @Bean
+    public LectureTopicTopology monitoringEventTopology(AmqpAdmin amqpAdmin,
+                                                        TopicExchange topicExchange,
+                                                        Queue monitoringEventQueue,
+                                                        CachingConnectionFactory connectionFactory) {
+        LectureTopicTopology topology = new LectureTopicTopology(amqpAdmin, topicExchange, monitoringEventQueue);
+        // 재연결 시 RabbitAdmin 이 Queue 를 다시 선언한 뒤 강의 바인딩을 복구
+        connectionFactory.addConnectionListener(connection -> topology.rebindAll());
+        return topology;
+    }
+}
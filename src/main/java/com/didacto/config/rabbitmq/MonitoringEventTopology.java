@@ -0,0 +1,30 @@
+package com.didacto.config.rabbitmq;
+
+/**
+ * 모니터링 이미지 이벤트의 발행 대상(Exchange, Routing Key)과 수신 Queue 바인딩 방식
+ * rabbitmq.delivery-mode 설정에 따라 구현체가 결정된다.
+ */
+public interface MonitoringEventTopology {
+
+    /**
+     * 이벤트를 발행할 Exchange 이름
+     */
+    String getExchange();
+
+    /**
+     * 강의 이벤트를 발행할 Routing Key
+     */
+    String getRoutingKey(Long lectureId);
+
+    /**
+     * 현재 인스턴스가 강의 스트림을 제공하기 시작할 때 호출
+     */
+    default void bindLecture(Long lectureId) {
+    }
+
+    /**
+     * 현재 인스턴스에 강의 스트림 구독자가 더 이상 없을 때 호출
+     */
+    default void unbindLecture(Long lectureId) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.didacto.config.rabbitmq;
+
+import com.didacto.dto.monitoring.MonitoringImageEvent;
+import com.didacto.dto.monitoring.MonitoringImageResolution;
+import com.didacto.dto.monitoring.SSEType;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 모니터링 이미지 이벤트 전용 바이너리 메세지 변환기
+ * 고정 길이 헤더 뒤에 JPEG 원본 바이트를 그대로 붙여 Base64/JSON 변환 비용을 없앤다.
+ * 그 외 타입(및 이전 형식의 JSON 메세지)은 delegate 로 처리한다.
+ *
+ * [format:1][type:1][flags:1][lectureId:8][memberId:8][tutorId:8][uploadedAt:8][versionLength:2][imageLength:4][version:m][image:n]
+ * flags 는 lectureId, memberId, tutorId, uploadedAt 의 null 여부 (bit 0, 1, 2, 4), 썸네일 여부 (bit 3),
+ * versionLength, imageLength 는 각각 없으면 -1 (version 은 UTF-8)
+ * 이전 형식(format 1, uploadedAt 과 version 없음)의 메세지도 읽을 수 있다.
+ */
+public class MonitoringImageEventMessageConverter implements MessageConverter {
+
+    public static final String CONTENT_TYPE = "application/x-monitoring-image-event";
+
+    private static final byte FORMAT = 2;
+    private static final byte FORMAT_V1 = 1;
+    static final int HEADER_SIZE = 1 + 1 + 1 + 8 + 8 + 8 + 8 + 2 + 4;
+    private static final int HEADER_SIZE_V1 = 1 + 1 + 1 + 8 + 8 + 8 + 4;
+
+    private static final int LECTURE_ID_FLAG = 1;
+    private static final int MEMBER_ID_FLAG = 1 << 1;
+    private static final int TUTOR_ID_FLAG = 1 << 2;
+    private static final int THUMB_FLAG = 1 << 3;
+    private static final int UPLOADED_AT_FLAG = 1 << 4;
+
+    private static final SSEType[] TYPES = SSEType.values();
+
+    private final MessageConverter delegate;
+
+    public MonitoringImageEventMessageConverter(MessageConverter delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) throws MessageConversionException {
+        if (!(object instanceof MonitoringImageEvent event)) {
+            return delegate.toMessage(object, messageProperties);
+        }
+
+        byte[] image = event.getImage();
+        byte[] version = event.getVersion() == null ? null : event.getVersion().getBytes(StandardCharsets.UTF_8);
+        byte[] body = new byte[HEADER_SIZE + (version == null ? 0 : version.length) + (image == null ? 0 : image.length)];
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+
+        int flags = (event.getLectureId() != null ? LECTURE_ID_FLAG : 0)
+                | (event.getMemberId() != null ? MEMBER_ID_FLAG : 0)
+                | (event.getTutorId() != null ? TUTOR_ID_FLAG : 0)
+                | (event.getResolution() == MonitoringImageResolution.THUMB ? THUMB_FLAG : 0)
+                | (event.getUploadedAt() != null ? UPLOADED_AT_FLAG : 0);
+        buffer.put(FORMAT)
+                .put((byte) (event.getType() == null ? -1 : event.getType().ordinal()))
+                .put((byte) flags)
+                .putLong(event.getLectureId() != null ? event.getLectureId() : 0L)
+                .putLong(event.getMemberId() != null ? event.getMemberId() : 0L)
+                .putLong(event.getTutorId() != null ? event.getTutorId() : 0L)
+                .putLong(event.getUploadedAt() != null ? event.getUploadedAt() : 0L)
+                .putShort((short) (version == null ? -1 : version.length))
+                .putInt(image == null ? -1 : image.length);
+        if (version != null) {
+            buffer.put(version);
+        }
+        if (image != null) {
+            buffer.put(image);
+        }
+
+        messageProperties.setContentType(CONTENT_TYPE);
+        messageProperties.setContentLength(body.length);
+        return new Message(body, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws MessageConversionException {
+        if (!CONTENT_TYPE.equals(message.getMessageProperties().getContentType())) {
+            return delegate.fromMessage(message);
+        }
+
+        byte[] body = message.getBody();
+        if (body.length < HEADER_SIZE_V1) {
+            throw new MessageConversionException("monitoring image event too short: " + body.length);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        byte format = buffer.get();
+        if (format != FORMAT && format != FORMAT_V1) {
+            throw new MessageConversionException("unsupported monitoring image event format: " + format);
+        }
+        if (format == FORMAT && body.length < HEADER_SIZE) {
+            throw new MessageConversionException("monitoring image event too short: " + body.length);
+        }
+        int type = buffer.get();
+        int flags = buffer.get();
+        long lectureId = buffer.getLong();
+        long memberId = buffer.getLong();
+        long tutorId = buffer.getLong();
+        long uploadedAt = format == FORMAT ? buffer.getLong() : 0L;
+        int versionLength = format == FORMAT ? buffer.getShort() : -1;
+        int imageLength = buffer.getInt();
+        int offset = buffer.position();
+        if (Math.max(versionLength, 0) + Math.max(imageLength, 0) > body.length - offset) {
+            throw new MessageConversionException("monitoring image event truncated: " + versionLength + ", " + imageLength);
+        }
+        String version = versionLength < 0 ? null : new String(body, offset, versionLength, StandardCharsets.UTF_8);
+        offset += Math.max(versionLength, 0);
+
+        return MonitoringImageEvent.builder()
+                .type(type >= 0 && type < TYPES.length ? TYPES[type] : null)
+                .lectureId((flags & LECTURE_ID_FLAG) != 0 ? lectureId : null)
+                .memberId((flags & MEMBER_ID_FLAG) != 0 ? memberId : null)
+                .tutorId((flags & TUTOR_ID_FLAG) != 0 ? tutorId : null)
+                .resolution(type == SSEType.DATA.ordinal()
+                        ? ((flags & THUMB_FLAG) != 0 ? MonitoringImageResolution.THUMB : MonitoringImageResolution.FULL)
+                        : null)
+                .version(version)
+                .uploadedAt((flags & UPLOADED_AT_FLAG) != 0 ? uploadedAt : null)
+                .image(imageLength < 0 ? null : Arrays.copyOfRange(body, offset, offset + imageLength))
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.didacto.config.rabbitmq;
+
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * rabbitmq.delivery-mode=shared
+ * 하나의 Durable Queue 를 모든 인스턴스가 경쟁적으로 소비 (단일 인스턴스 운영용)
+ * 인스턴스가 여러 대이면 이벤트는 그 중 한 인스턴스에만 전달되므로 broadcast 또는 lecture 를 사용
+ */
+@Configuration
+@ConditionalOnProperty(name = "rabbitmq.delivery-mode", havingValue = "shared", matchIfMissing = true)
+public class SharedQueueTopologyConfig {
+
+    @Value("${rabbitmq.queue.name}")
+    private String queueName;
+
+    @Value("${rabbitmq.exchange.name}")
+    private String exchangeName;
+
+    @Value("${rabbitmq.routing.key}")
+    private String routingKey;
+
+    @Bean
+    public Queue monitoringEventQueue() {
+        return new Queue(queueName);
+    }
+
+    /**
+     * 지정된 Exchange 이름으로 Direct Exchange Bean 을 생성
+     */
+    @Bean
+    public DirectExchange directExchange() {
+        return new DirectExchange(exchangeName);
+    }
+
+    /**
+     * 주어진 Queue 와 Exchange 을 Binding 하고 Routing Key 을 이용하여 Binding Bean 생성
+     * Exchange 에 Queue 을 등록한다고 이해하자
+     **/
+    @Bean
+    public Binding binding(Queue monitoringEventQueue, DirectExchange exchange) {
+        return BindingBuilder.bind(monitoringEventQueue).to(exchange).with(routingKey);
+    }
+
+    @Bean
+    public MonitoringEventTopology monitoringEventTopology() {
+        return new MonitoringEventTopology() {
+            @Override
+            public String getExchange() {
+                return exchangeName;
+            }
+
+            @Override
+            public String getRoutingKey(Long lectureId) {
+                return routingKey;
+            }
+        };
+    }
+}
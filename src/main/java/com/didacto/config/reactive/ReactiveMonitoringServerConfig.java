@@ -0,0 +1,57 @@
+package com.didacto.config.reactive;
+
+import com.didacto.config.exception.custom.BasicCustomException500;
+import com.didacto.controller.v1.monitoring.ReactiveMonitoringHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * 리액티브 모니터링 서버 (monitoring.reactive.enabled=true 인 경우)
+ * 모니터링 조회 API 를 별도 포트의 Netty 서버에서 제공하여, 장시간 유지되는 SSE 연결이 서블릿 스레드/비동기 요청을 점유하지 않도록 한다.
+ * 그 외 API(업로드 포함)는 기존 MVC 서버에서 제공한다.
+ */
+@Configuration
+@Slf4j
+@ConditionalOnProperty(prefix = "monitoring.reactive", name = "enabled", havingValue = "true")
+public class ReactiveMonitoringServerConfig {
+
+    @Bean(destroyMethod = "disposeNow")
+    public DisposableServer reactiveMonitoringServer(ReactiveMonitoringHandler handler,
+                                                     ObjectMapper objectMapper,
+                                                     @Value("${monitoring.reactive.port:8081}") int port) {
+        RouterFunction<ServerResponse> routes = RouterFunctions.route()
+                .path("/api/v1/monitoring", builder -> builder
+                        .GET("/image-stream", handler::imageStream)
+                        .GET("/images", handler::images))
+                .onError(BasicCustomException500.class, handler::handleException)
+                .build();
+
+        // MVC 와 같은 ObjectMapper 설정으로 응답 직렬화
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(configurer -> {
+                    configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+
+        DisposableServer server = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(RouterFunctions.toHttpHandler(routes, strategies)))
+                .bindNow();
+        log.info("reactive monitoring server started on port {}", server.port());
+        return server;
+    }
+}
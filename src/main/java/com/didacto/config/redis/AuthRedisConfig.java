@@ -0,0 +1,40 @@
+package com.didacto.config.redis;
+
+import com.didacto.infra.redis.AuthRefreshTokenCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+@Configuration
+public class AuthRedisConfig {
+
+    /**
+     * Refresh Token 다이제스트 저장용 RedisTemplate (값은 직렬화 없이 바이트 그대로 저장)
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> authRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.setHashKeySerializer(RedisSerializer.string());
+        redisTemplate.setHashValueSerializer(RedisSerializer.byteArray());
+        return redisTemplate;
+    }
+
+    /**
+     * Refresh Token 변경 알림 구독 (다른 인스턴스에서 새 토큰이 저장되면 내부 캐시 항목 제거)
+     */
+    @Bean
+    public RedisMessageListenerContainer authRedisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                           AuthRefreshTokenCache authRefreshTokenCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(authRefreshTokenCache, new ChannelTopic(AuthRefreshTokenCache.INVALIDATE_CHANNEL));
+        return container;
+    }
+}
@@ -2,10 +2,12 @@ package com.didacto.config.security;
 
 
 import com.didacto.config.security.jwt.JwtAccessDeniedHandler;
+import com.didacto.config.security.jwt.JwtAuthenticationCache;
 import com.didacto.config.security.jwt.JwtAuthenticationEntryPoint;
 import com.didacto.config.security.jwt.JwtFilter;
 import com.didacto.config.security.jwt.TokenProvider;
 import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -16,11 +18,14 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 @AllArgsConstructor
@@ -30,10 +35,18 @@ public class SecurityConfig {
     private final TokenProvider tokenProvider;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
+    /**
+     * {bcrypt} 접두사로 알고리즘을 구분하는 PasswordEncoder (strength 를 올리면 로그인 시 기존 해시를 다시 저장)
+     * 접두사가 없는 기존 해시는 기본 BCrypt 로 검증한다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int bcryptStrength) {
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(
+                "bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(bcryptStrength)));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return passwordEncoder;
     }
 
     private static final String[] AUTH_WHITELIST = {
@@ -64,7 +77,7 @@ public class SecurityConfig {
         http.httpBasic(AbstractHttpConfigurer::disable);
 
         //Jwt Filter를 UsernamePasswordAuthenticationFilter 앞단에 추가
-        http.addFilterBefore(new JwtFilter(tokenProvider), UsernamePasswordAuthenticationFilter.class)
+        http.addFilterBefore(new JwtFilter(tokenProvider, jwtAuthenticationCache), UsernamePasswordAuthenticationFilter.class)
         .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers(AUTH_WHITELIST).permitAll()
                         .anyRequest().permitAll()
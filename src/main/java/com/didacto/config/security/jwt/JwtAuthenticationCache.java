@@ -0,0 +1,101 @@
+package com.didacto.config.security.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증된 Access Token 의 인증 정보 캐시 (토큰 만료 시각까지 유지)
+ * 토큰의 서명 부분을 키로 사용하고, 조회 시 토큰 전체가 같은지 다시 비교한다.
+ * 최대 개수를 넘으면 만료된 항목을 먼저 정리하고, 그래도 가득 차 있으면 임의의 항목을 제거한다.
+ * Authentication 은 요청 처리 중 변경될 수 있으므로(details, eraseCredentials 등) 공유하지 않고,
+ * 변경되지 않는 principal 과 권한 목록만 보관하여 조회할 때마다 새 Authentication 을 만든다.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private final int maxSize;
+    private final Map<String, CachedAuthentication> cache = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public JwtAuthenticationCache(@Value("${jwt.cache.max-size:10000}") int maxSize,
+                                  MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.hitCounter = meterRegistry.counter("jwt.cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("jwt.cache.requests", "result", "miss");
+        meterRegistry.gaugeMapSize("jwt.cache.size", Tags.empty(), cache);
+    }
+
+    /**
+     * 캐시된 인증 정보로 만든 새 Authentication (없거나 만료되었으면 null)
+     */
+    public Authentication get(String token) {
+        String signature = signatureOf(token);
+        CachedAuthentication cached = signature == null ? null : cache.get(signature);
+        if (cached == null || !cached.token.equals(token)) {
+            missCounter.increment();
+            return null;
+        }
+        if (cached.expiresAt <= System.currentTimeMillis()) {
+            cache.remove(signature, cached);
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return new UsernamePasswordAuthenticationToken(cached.principal, "", cached.authorities);
+    }
+
+    /**
+     * 검증을 마친 토큰의 인증 정보 저장
+     * @param expiresAt 토큰 만료 시각(ms)
+     */
+    public void put(String token, Authentication authentication, long expiresAt) {
+        String signature = signatureOf(token);
+        if (signature == null) {
+            return;
+        }
+        if (cache.size() >= maxSize) {
+            evict();
+        }
+        cache.put(signature, new CachedAuthentication(
+                token, authentication.getPrincipal(), List.copyOf(authentication.getAuthorities()), expiresAt));
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(cached -> cached.expiresAt <= now);
+        // 만료된 항목이 없으면 최대 개수의 1/10 을 비움
+        Iterator<String> iterator = cache.keySet().iterator();
+        int target = maxSize - Math.max(1, maxSize / 10);
+        while (cache.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    // header.payload.signature 중 signature 부분
+    private static String signatureOf(String token) {
+        int delimiter = token.lastIndexOf('.');
+        if (delimiter < 0 || delimiter == token.length() - 1) {
+            return null;
+        }
+        return token.substring(delimiter + 1);
+    }
+
+    private record CachedAuthentication(String token, Object principal,
+                                        Collection<? extends GrantedAuthority> authorities, long expiresAt) {
+    }
+}
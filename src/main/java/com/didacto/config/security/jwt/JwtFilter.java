@@ -1,5 +1,7 @@
 package com.didacto.config.security.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,6 +13,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
@@ -20,6 +23,7 @@ public class JwtFilter extends OncePerRequestFilter {
     public static final String REFRESH_PREFIX = "Refresh ";
 
     private final TokenProvider tokenProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
     // 실제 필터링 로직은 doFilterInternal 에 들어감
     // JWT 토큰의 인증 정보를 현재 쓰레드의 SecurityContext 에 저장하는 역할 수행
@@ -29,19 +33,36 @@ public class JwtFilter extends OncePerRequestFilter {
         // 1. Request Header 에서 토큰을 꺼냄
         String jwt = resolveToken(request);
 
-        // 2. validateToken 으로 토큰 유효성 검사
+        // 2. 토큰 유효성 검사
         // 정상 토큰이면 해당 토큰으로 Authentication 을 가져와서 SecurityContext 에 저장
-        if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-            Authentication authentication = tokenProvider.getAuthentication(jwt, true);
+        Authentication authentication = StringUtils.hasText(jwt) ? authenticate(jwt) : null;
+        if (authentication != null) {
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
 
-        else if (StringUtils.hasText(jwt) && tokenProvider.validateRefreshToken(jwt)) {
-            Authentication authentication = tokenProvider.getAuthentication(jwt, false);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        filterChain.doFilter(request, response);
+    }
+
+    // 토큰을 한 번만 검증하고, 검증 결과(Claims)로 Authentication 생성 (유효하지 않으면 null)
+    private Authentication authenticate(String jwt) {
+        // 이미 검증한 Access Token 이면 캐시된 Authentication 을 그대로 사용
+        Authentication cached = jwtAuthenticationCache.get(jwt);
+        if (cached != null) {
+            return cached;
         }
 
-        filterChain.doFilter(request, response);
+        // 정상 Access Token 이면 해당 토큰으로 Authentication 을 가져와서 만료 시각까지 캐시
+        Optional<Jws<Claims>> accessToken = tokenProvider.parseAccessToken(jwt);
+        if (accessToken.isPresent()) {
+            Claims claims = accessToken.get().getBody();
+            Authentication authentication = tokenProvider.getAuthentication(claims);
+            jwtAuthenticationCache.put(jwt, authentication, claims.getExpiration().getTime());
+            return authentication;
+        }
+
+        return tokenProvider.parseRefreshToken(jwt)
+                .map(refreshToken -> tokenProvider.getAuthentication(refreshToken.getBody()))
+                .orElse(null);
     }
 
     // Request Header 에서 토큰 정보를 꺼내오기
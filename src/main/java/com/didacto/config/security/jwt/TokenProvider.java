@@ -20,6 +20,7 @@ import java.security.Key;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -42,6 +43,10 @@ public class TokenProvider {
     private final Key key;
     private final Key refreshKey;
 
+    // 서명 키별로 미리 생성한 파서 (불변 객체이므로 요청 간 공유)
+    private final JwtParser accessParser;
+    private final JwtParser refreshParser;
+
     private final CustomUserDetailsService customUserDetailsService;
     
     public TokenProvider(@Value("${jwt.secret}") String secretKey,
@@ -53,6 +58,8 @@ public class TokenProvider {
         byte[] refKeyBytes = Decoders.BASE64.decode(refreshSecretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
         this.refreshKey = Keys.hmacShaKeyFor(refKeyBytes);
+        this.accessParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.refreshParser = Jwts.parserBuilder().setSigningKey(refreshKey).build();
         this.authRedisRepository = authRedisRepository;
     }
 
@@ -93,17 +100,10 @@ public class TokenProvider {
 
 
 
-    public Authentication getAuthentication(String accessToken, boolean isAccessToken) {
-        // 토큰 복호화
-        Claims claims;
-        if(isAccessToken){
-            claims = parseClaims(accessToken, key);
-        }
-        else{
-            claims = parseClaims(accessToken, refreshKey);
-        }
-
-
+    /**
+     * 토큰에서 Authentication 생성 (parseAccessToken/parseRefreshToken 으로 검증한 Claims 사용)
+     */
+    public Authentication getAuthentication(Claims claims) {
         if (claims.get(AUTHORITIES_KEY) == null) {
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");
         }
@@ -120,11 +120,12 @@ public class TokenProvider {
         return new UsernamePasswordAuthenticationToken(principal, "", authorities);
     }
 
-    public boolean validateToken(String token) {
-
+    /**
+     * Access Token 검증 (서명, 만료) 후 Claims 반환, 유효하지 않으면 empty
+     */
+    public Optional<Jws<Claims>> parseAccessToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return Optional.of(accessParser.parseClaimsJws(token));
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -134,17 +135,20 @@ public class TokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return Optional.empty();
     }
 
-    public boolean validateRefreshToken(String token) {
+    /**
+     * Refresh Token 검증 (서명, 만료, 저장된 토큰과 일치 여부) 후 Claims 반환, 유효하지 않으면 empty
+     */
+    public Optional<Jws<Claims>> parseRefreshToken(String token) {
         try {
-            Jws<Claims> claimsJws = Jwts.parserBuilder().setSigningKey(refreshKey).build().parseClaimsJws(token);
+            Jws<Claims> claimsJws = refreshParser.parseClaimsJws(token);
             Long id = claimsJws.getBody().get("Id", Long.class);
             if(!authRedisRepository.validateRefreshToken(id, token)){
                 throw new IllegalArgumentException("JWT가 잘못되었습니다.");
             }
-            return true;
+            return Optional.of(claimsJws);
         }
         catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
@@ -159,18 +163,10 @@ public class TokenProvider {
             log.info("JWT가 잘못되었습니다.");
         }
 
-        return false;
+        return Optional.empty();
 
     }
 
-    public Claims parseClaims(String accessToken, Key key) {
-        try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
-        } catch (ExpiredJwtException e) {
-            return e.getClaims();
-        }
-    }
-
 
 
 
@@ -0,0 +1,34 @@
+package com.didacto.config.task;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskSchedulerBuilder;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+
+/**
+ * 주기 작업(이벤트 발행, Refresh Token 정리 등)용 공용 스케줄러
+ * Spring Boot 가 구성한 빌더(spring.task.scheduling.*)로 생성하며, virtual 프로필에서는 가상 스레드 스케줄러를 사용한다.
+ * 자동 구성 스케줄러는 @EnableScheduling(@Scheduled) 을 사용할 때만 생성되므로 같은 빌더로 직접 등록한다.
+ * (반환 타입을 TaskScheduler 로 두어 applicationTaskExecutor 자동 구성을 막지 않으며,
+ * @EnableWebSocket 의 SockJS 스케줄러와 구분되도록 사용하는 곳에서는 이름으로 주입)
+ */
+@Configuration
+public class TaskSchedulerConfig {
+
+    public static final String TASK_SCHEDULER = "taskScheduler";
+
+    @Bean(TASK_SCHEDULER)
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public TaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(TASK_SCHEDULER)
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public TaskScheduler taskSchedulerVirtualThreads(SimpleAsyncTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.didacto.config.websocket;
+
+import com.didacto.config.security.custom.CustomUserDetails;
+import com.didacto.config.security.jwt.JwtFilter;
+import com.didacto.config.security.jwt.TokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 모니터링 업로드 WebSocket 핸드셰이크 인증
+ * Authorization 헤더(Bearer) 또는 Sec-WebSocket-Protocol 헤더의 Access Token 을 검증하고,
+ * 인증된 memberId 와 lectureId 파라미터를 세션 속성으로 저장한다.
+ * 브라우저 WebSocket API 는 Authorization 헤더를 지정할 수 없으므로 new WebSocket(url, ["access_token", token]) 형식으로 전달한다.
+ * (URL 파라미터의 토큰은 접근 로그나 프록시에 남으므로 받지 않음)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MonitoringHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String MEMBER_ID_ATTRIBUTE = "memberId";
+    public static final String LECTURE_ID_ATTRIBUTE = "lectureId";
+
+    public static final String ACCESS_TOKEN_PROTOCOL = "access_token";
+    private static final String LECTURE_ID_PARAM = "lectureId";
+
+    private final TokenProvider tokenProvider;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        Map<String, String> params = UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams().toSingleValueMap();
+
+        Long lectureId = parseLong(params.get(LECTURE_ID_PARAM));
+        if (lectureId == null) {
+            response.setStatusCode(HttpStatus.BAD_REQUEST);
+            return false;
+        }
+
+        String jwt = resolveToken(request);
+        Optional<Jws<Claims>> accessToken = StringUtils.hasText(jwt) ? tokenProvider.parseAccessToken(jwt) : Optional.empty();
+        if (accessToken.isEmpty()) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        CustomUserDetails userDetails = (CustomUserDetails) tokenProvider.getAuthentication(accessToken.get().getBody()).getPrincipal();
+        attributes.put(MEMBER_ID_ATTRIBUTE, userDetails.getMember().getId());
+        attributes.put(LECTURE_ID_ATTRIBUTE, lectureId);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    private String resolveToken(ServerHttpRequest request) {
+        String bearerToken = request.getHeaders().getFirst(JwtFilter.AUTHORIZATION_HEADER);
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(JwtFilter.BEARER_PREFIX)) {
+            return bearerToken.substring(JwtFilter.BEARER_PREFIX.length());
+        }
+        // Sec-WebSocket-Protocol: access_token, {token}
+        List<String> protocols = new WebSocketHttpHeaders(request.getHeaders()).getSecWebSocketProtocol();
+        int index = protocols.indexOf(ACCESS_TOKEN_PROTOCOL);
+        return index >= 0 && index + 1 < protocols.size() ? protocols.get(index + 1) : null;
+    }
+
+    private Long parseLong(String value) {
+        try {
+            return value == null ? null : Long.parseLong(value);
+        }
+        catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
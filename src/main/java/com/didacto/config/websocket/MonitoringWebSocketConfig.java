@@ -0,0 +1,60 @@
+package com.didacto.config.websocket;
+
+import com.didacto.controller.v1.monitoring.MonitoringUploadWebSocketHandler;
+import com.didacto.service.monitoring.MonitoringImageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
+
+/**
+ * 모니터링 이미지 업로드용 WebSocket 설정
+ * 핸드셰이크에서 한 번만 인증하고, 이후에는 바이너리 메세지(JPEG) 하나가 이미지 한 장이다.
+ * 핸드셰이크는 monitoring.websocket.allowed-origins 에 등록된 프론트엔드 Origin 에서만 허용하며,
+ * 브라우저는 Access Token 을 Sec-WebSocket-Protocol 헤더("access_token", {token})로 전달한다.
+ */
+@Configuration
+@EnableWebSocket
+public class MonitoringWebSocketConfig implements WebSocketConfigurer {
+
+    public static final String UPLOAD_PATH = "/ws/v1/monitoring/upload";
+
+    private final MonitoringUploadWebSocketHandler monitoringUploadWebSocketHandler;
+    private final MonitoringHandshakeInterceptor monitoringHandshakeInterceptor;
+    private final String[] allowedOrigins;
+
+    public MonitoringWebSocketConfig(MonitoringUploadWebSocketHandler monitoringUploadWebSocketHandler,
+                                     MonitoringHandshakeInterceptor monitoringHandshakeInterceptor,
+                                     @Value("${monitoring.websocket.allowed-origins}") String[] allowedOrigins) {
+        this.monitoringUploadWebSocketHandler = monitoringUploadWebSocketHandler;
+        this.monitoringHandshakeInterceptor = monitoringHandshakeInterceptor;
+        this.allowedOrigins = allowedOrigins;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        // 토큰을 담아 요청한 서브프로토콜 중 access_token 만 응답에 포함 (토큰 값은 응답 헤더로 돌려보내지 않음)
+        DefaultHandshakeHandler handshakeHandler = new DefaultHandshakeHandler();
+        handshakeHandler.setSupportedProtocols(MonitoringHandshakeInterceptor.ACCESS_TOKEN_PROTOCOL);
+
+        registry.addHandler(monitoringUploadWebSocketHandler, UPLOAD_PATH)
+                .setHandshakeHandler(handshakeHandler)
+                .addInterceptors(monitoringHandshakeInterceptor)
+                .setAllowedOrigins(allowedOrigins);
+    }
+
+    /**
+     * 이미지 한 장을 하나의 메세지로 받을 수 있도록 버퍼 크기 설정
+     */
+    @Bean
+    public ServletServerContainerFactoryBean createWebSocketContainer() {
+        ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+        container.setMaxBinaryMessageBufferSize(MonitoringImageService.MAX_IMAGE_SIZE);
+        container.setMaxTextMessageBufferSize(8 * 1024);
+        return container;
+    }
+}
@@ -1,23 +1,40 @@
 package com.didacto.controller.v1.monitoring;
 
 import com.didacto.common.response.CommonResponse;
+import com.didacto.config.security.AuthConstant;
 import com.didacto.config.security.SecurityUtil;
+import com.didacto.dto.monitoring.MonitoringFrame;
 import com.didacto.dto.monitoring.MonitoringImage;
 import com.didacto.dto.monitoring.MonitoringImageEvent;
+import com.didacto.dto.monitoring.MonitoringImageResolution;
 import com.didacto.dto.monitoring.MonitoringImageUploadRequest;
+import com.didacto.dto.monitoring.MonitoringPresence;
+import com.didacto.dto.monitoring.MonitoringUploadResponse;
 import com.didacto.service.monitoring.MonitoringImageEventService;
 import com.didacto.service.monitoring.MonitoringImageService;
+import com.didacto.service.monitoring.MonitoringSessionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import reactor.core.publisher.Flux;
 
+import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 
 @RequiredArgsConstructor
@@ -27,31 +44,63 @@ import java.util.List;
 public class MonitoringController {
     private final MonitoringImageEventService monitoringService;
     private final MonitoringImageService monitoringImageService;
+    private final MonitoringSessionService monitoringSessionService;
     Logger logger = LoggerFactory.getLogger(getClass());
 
     @PostMapping("image/upload")
-    @Operation(summary = "MONITORING_01 : 모니터링(사용자 화면) 이미지 업로드")
-    public CommonResponse uploadImage(
+    @Operation(summary = "MONITORING_01 : 모니터링(사용자 화면) 이미지 업로드",
+            description = "응답의 nextUploadIntervalMs 만큼 대기한 뒤 다음 이미지를 업로드합니다.")
+    public CommonResponse<MonitoringUploadResponse> uploadImage(
             @RequestBody MonitoringImageUploadRequest request
     ) {
-        monitoringImageService.upload(request.getLectureId(),
+        MonitoringUploadResponse response = monitoringImageService.upload(request.getLectureId(),
                 SecurityUtil.getCurrentMemberId(), request.getEncodedImageBase64());
 
-        return new CommonResponse(
-                true, HttpStatus.OK, null, null
+        return new CommonResponse<>(
+                true, HttpStatus.OK, null, response
+        );
+    }
+
+    @PostMapping(value = "image/upload/binary",
+            consumes = {MediaType.IMAGE_JPEG_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @Operation(summary = "MONITORING_03 : 모니터링(사용자 화면) 이미지 업로드 (JPEG 바이너리)")
+    public CommonResponse<MonitoringUploadResponse> uploadBinaryImage(
+            @RequestParam("lectureId") Long lectureId,
+            HttpServletRequest request
+    ) throws IOException {
+        MonitoringUploadResponse response = monitoringImageService.upload(lectureId, SecurityUtil.getCurrentMemberId(),
+                request.getInputStream(), request.getContentLengthLong());
+
+        return new CommonResponse<>(
+                true, HttpStatus.OK, null, response
+        );
+    }
+
+    @PostMapping(value = "image/upload/binary", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "MONITORING_04 : 모니터링(사용자 화면) 이미지 업로드 (multipart)")
+    public CommonResponse<MonitoringUploadResponse> uploadMultipartImage(
+            @RequestParam("lectureId") Long lectureId,
+            @RequestPart("image") MultipartFile image
+    ) throws IOException {
+        MonitoringUploadResponse response = monitoringImageService.upload(lectureId, SecurityUtil.getCurrentMemberId(),
+                image.getInputStream(), image.getSize());
+
+        return new CommonResponse<>(
+                true, HttpStatus.OK, null, response
         );
     }
 
     @Deprecated
     @GetMapping(value = "image-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public Flux<MonitoringImageEvent> imageStream(
-            @RequestParam("lectureId") Long lectureId
+            @RequestParam("lectureId") Long lectureId,
+            @RequestParam(value = "resolution", defaultValue = "full") String resolution
     ) {
         // 초기 연결 신호
         Flux<MonitoringImageEvent> initEvent = Flux.just(MonitoringImageEvent.createInitEvent());
 
         // 실제 데이터
-        Flux<MonitoringImageEvent> monitoringStream = monitoringService.stream(lectureId);
+        Flux<MonitoringImageEvent> monitoringStream = monitoringService.stream(lectureId, MonitoringImageResolution.from(resolution));
 
         return Flux.concat(initEvent, monitoringStream)
                 .doOnSubscribe(subscription -> logger.info("Stream subscribed for lectureId: " + lectureId))
@@ -59,14 +108,160 @@ public class MonitoringController {
     }
 
     @GetMapping("images")
-    @Operation(summary = "MONITORING_02 : 모니터링(사용자 화면) 이미지 리스트 폴링")
+    @Operation(summary = "MONITORING_02 : 모니터링(사용자 화면) 이미지 리스트 폴링",
+            description = "versions 에 보유 중인 이미지 버전(memberId:version)을 전달하면 변경되지 않은 이미지는 내용 없이 반환합니다. " +
+                    "If-None-Match 가 응답 ETag 와 같으면 304 를 반환합니다. " +
+                    "resolution=thumb 이면 그리드 화면용 썸네일을 반환합니다.")
     public CommonResponse<List<MonitoringImage>> getMonitoringImage(
-            @RequestParam("lectureId") Long lectureId
+            @RequestParam("lectureId") Long lectureId,
+            @RequestParam(value = "versions", required = false) List<String> versions,
+            @RequestParam(value = "resolution", defaultValue = "full") String resolution,
+            WebRequest webRequest
     ) {
-        List<MonitoringImage> images = monitoringImageService.getImages(lectureId);
+        List<MonitoringImage> images = monitoringImageService.getImages(lectureId, parseVersions(versions),
+                MonitoringImageResolution.from(resolution));
+        if (webRequest.checkNotModified(monitoringImageService.getETag(images))) {
+            return null;
+        }
         return new CommonResponse<>(
                 true, HttpStatus.OK, null, images
         );
     }
 
+    @GetMapping(value = "images/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "MONITORING_06 : 모니터링(사용자 화면) 이미지 리스트 폴링 (스트리밍 응답)",
+            description = "MONITORING_02 와 같은 형식의 응답을 이미지 단위로 바로 전송합니다. (ETag 미지원)")
+    public ResponseEntity<StreamingResponseBody> streamMonitoringImages(
+            @RequestParam("lectureId") Long lectureId,
+            @RequestParam(value = "versions", required = false) List<String> versions,
+            @RequestParam(value = "resolution", defaultValue = "full") String resolution
+    ) {
+        Map<Long, String> knownVersions = parseVersions(versions);
+        MonitoringImageResolution imageResolution = MonitoringImageResolution.from(resolution);
+        StreamingResponseBody body = outputStream ->
+                monitoringImageService.writeImages(lectureId, knownVersions, imageResolution, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @GetMapping(value = "image", produces = MediaType.IMAGE_JPEG_VALUE)
+    @Operation(summary = "MONITORING_05 : 모니터링(사용자 화면) 학생 한 명의 이미지 조회 (JPEG 바이너리)",
+            description = "If-None-Match 에 이미지 버전이 포함되어 있거나 * 이면 304 를 반환합니다. resolution=thumb 이면 썸네일을 반환합니다.")
+    public ResponseEntity<byte[]> getMonitoringImageBinary(
+            @RequestParam("lectureId") Long lectureId,
+            @RequestParam("memberId") Long memberId,
+            @RequestParam(value = "resolution", defaultValue = "full") String resolution,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            WebRequest webRequest
+    ) {
+        // 첫 번째 ETag 와 같으면 이미지를 읽지 않음 (304 여부는 아래에서 목록 전체로 판단)
+        MonitoringFrame frame = monitoringImageService.getImage(lectureId, memberId, firstEntityTag(ifNoneMatch),
+                MonitoringImageResolution.from(resolution));
+
+        // If-None-Match 목록에 버전이 있거나 * 이면 이미지 없이 304 응답
+        if (webRequest.checkNotModified(frame.getVersion())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(frame.getVersion())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(frame.getVersion())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.IMAGE_JPEG)
+                .body(frame.getImage());
+    }
+
+    @GetMapping("presence")
+    @PreAuthorize(AuthConstant.AUTH_ADMIN)
+    @Operation(summary = "MONITORING_08 : 강의 학생별 접속 상태 조회 (교수)",
+            description = "최근 이미지가 남아있는 학생의 접속 여부와 마지막 업로드 시각을 반환합니다.")
+    public CommonResponse<List<MonitoringPresence>> getPresences(
+            @RequestParam("lectureId") Long lectureId
+    ) {
+        long tutorId = SecurityUtil.getCurrentMemberId();
+        return new CommonResponse<>(
+                true, HttpStatus.OK, null, monitoringSessionService.getPresences(lectureId, tutorId)
+        );
+    }
+
+    @GetMapping("presence/member")
+    @PreAuthorize(AuthConstant.AUTH_ADMIN)
+    @Operation(summary = "MONITORING_09 : 학생 한 명의 접속 상태 조회 (교수)")
+    public CommonResponse<MonitoringPresence> getPresence(
+            @RequestParam("lectureId") Long lectureId,
+            @RequestParam("memberId") Long memberId
+    ) {
+        long tutorId = SecurityUtil.getCurrentMemberId();
+        return new CommonResponse<>(
+                true, HttpStatus.OK, null, monitoringSessionService.getPresence(lectureId, memberId, tutorId)
+        );
+    }
+
+    @PostMapping("focus")
+    @PreAuthorize(AuthConstant.AUTH_ADMIN)
+    @Operation(summary = "MONITORING_10 : 교수자가 확대하여 보는 학생 지정 (교수)",
+            description = "지정된 학생은 더 짧은 주기로 업로드합니다. 일정 시간 후 해제되므로 확대 중에는 주기적으로 다시 요청합니다.")
+    public CommonResponse focus(
+            @RequestParam("lectureId") Long lectureId,
+            @RequestParam("memberId") Long memberId
+    ) {
+        long tutorId = SecurityUtil.getCurrentMemberId();
+        monitoringSessionService.focus(lectureId, memberId, tutorId);
+        return new CommonResponse(
+                true, HttpStatus.OK, null, null
+        );
+    }
+
+    @DeleteMapping("focus")
+    @PreAuthorize(AuthConstant.AUTH_ADMIN)
+    @Operation(summary = "MONITORING_11 : 교수자가 확대하여 보는 학생 해제 (교수)")
+    public CommonResponse clearFocus(
+            @RequestParam("lectureId") Long lectureId
+    ) {
+        long tutorId = SecurityUtil.getCurrentMemberId();
+        monitoringSessionService.clearFocus(lectureId, tutorId);
+        return new CommonResponse(
+                true, HttpStatus.OK, null, null
+        );
+    }
+
+    // If-None-Match 의 첫 번째 ETag 값 (W/ 와 따옴표 제거, 없거나 * 또는 따옴표가 없는 형식이면 null)
+    static String firstEntityTag(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        int delimiter = ifNoneMatch.indexOf(',');
+        String tag = (delimiter < 0 ? ifNoneMatch : ifNoneMatch.substring(0, delimiter)).trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return null;
+        }
+        return tag.substring(1, tag.length() - 1);
+    }
+
+    // memberId:version 형식의 목록을 Map 으로 변환 (형식이 맞지 않는 항목은 무시)
+    static Map<Long, String> parseVersions(List<String> versions) {
+        Map<Long, String> knownVersions = new HashMap<>();
+        if (versions == null) {
+            return knownVersions;
+        }
+        for (String version : versions) {
+            int delimiter = version.indexOf(':');
+            if (delimiter <= 0 || delimiter == version.length() - 1) {
+                continue;
+            }
+            try {
+                knownVersions.put(Long.parseLong(version.substring(0, delimiter)), version.substring(delimiter + 1));
+            }
+            catch (NumberFormatException ignored) {
+            }
+        }
+        return knownVersions;
+    }
+
 }
@@ -0,0 +1,88 @@
+package com.didacto.controller.v1.monitoring;
+
+import com.didacto.config.exception.custom.BasicCustomException500;
+import com.didacto.config.websocket.MonitoringHandshakeInterceptor;
+import com.didacto.dto.monitoring.MonitoringUploadResponse;
+import com.didacto.service.monitoring.MonitoringImageService;
+import com.didacto.service.monitoring.MonitoringSessionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * MONITORING_07 : 모니터링(사용자 화면) 이미지 업로드 (WebSocket)
+ * ws://{host}/ws/v1/monitoring/upload?lectureId={lectureId}
+ * Access Token 은 Sec-WebSocket-Protocol: access_token, {accessToken} 또는 Authorization: Bearer {accessToken} 헤더로 전달한다.
+ * (브라우저는 new WebSocket(url, ["access_token", accessToken]) 형식, 쿼리 파라미터의 토큰은 받지 않음)
+ * 바이너리 메세지 하나가 JPEG 이미지 한 장이며, 요청 단위 인증/HTTP 처리 없이 업로드와 같은 저장/전달 경로를 사용한다.
+ * 업로드에 실패하면 오류 코드를 텍스트 메세지로 전달하고 연결은 유지한다.
+ * 다음 업로드 주기가 변경되면 {"nextUploadIntervalMs":1000} 형식의 텍스트 메세지로 전달한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MonitoringUploadWebSocketHandler extends BinaryWebSocketHandler {
+
+    private final MonitoringImageService monitoringImageService;
+    private final MonitoringSessionService monitoringSessionService;
+
+    private static final String UPLOAD_INTERVAL_ATTRIBUTE = "nextUploadIntervalMs";
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        log.debug("monitoring upload connected: lecture{} member{}", lectureId(session), memberId(session));
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws IOException {
+        ByteBuffer payload = message.getPayload();
+        byte[] image = new byte[payload.remaining()];
+        payload.get(image);
+
+        try {
+            MonitoringUploadResponse response = monitoringImageService.upload(lectureId(session), memberId(session), image);
+            // 주기가 바뀐 경우에만 전달
+            Object previous = session.getAttributes().put(UPLOAD_INTERVAL_ATTRIBUTE, response.getNextUploadIntervalMs());
+            if (!Long.valueOf(response.getNextUploadIntervalMs()).equals(previous)) {
+                session.sendMessage(new TextMessage(
+                        "{\"nextUploadIntervalMs\":" + response.getNextUploadIntervalMs() + "}"));
+            }
+        }
+        catch (BasicCustomException500 e) {
+            session.sendMessage(new TextMessage(e.getCode().getCode()));
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.info("monitoring upload transport error: member{} {}", memberId(session), exception.getMessage());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        log.debug("monitoring upload closed: member{} {}", memberId(session), status);
+        // 연결이 끊기면 세션 만료를 기다리지 않고 바로 미접속 처리
+        try {
+            monitoringSessionService.leave(lectureId(session), memberId(session));
+        }
+        catch (BasicCustomException500 e) {
+            log.warn("monitoring session leave fail: member{}", memberId(session));
+        }
+    }
+
+    private long lectureId(WebSocketSession session) {
+        return (Long) session.getAttributes().get(MonitoringHandshakeInterceptor.LECTURE_ID_ATTRIBUTE);
+    }
+
+    private long memberId(WebSocketSession session) {
+        return (Long) session.getAttributes().get(MonitoringHandshakeInterceptor.MEMBER_ID_ATTRIBUTE);
+    }
+}
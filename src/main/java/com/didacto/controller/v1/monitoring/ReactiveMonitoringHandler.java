@@ -0,0 +1,113 @@
+package com.didacto.controller.v1.monitoring;
+
+import com.didacto.common.ErrorDefineCode;
+import com.didacto.common.response.CommonError;
+import com.didacto.common.response.CommonResponse;
+import com.didacto.config.exception.custom.BasicCustomException500;
+import com.didacto.config.exception.custom.exception.PreconditionFailException412;
+import com.didacto.dto.monitoring.MonitoringImage;
+import com.didacto.dto.monitoring.MonitoringImageEvent;
+import com.didacto.dto.monitoring.MonitoringImageResolution;
+import com.didacto.service.monitoring.MonitoringImageEventService;
+import com.didacto.service.monitoring.MonitoringImageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리액티브 모니터링 서버(Netty)의 조회 API
+ * MONITORING_02, image-stream 과 같은 요청/응답 형식이며, 같은 서비스(인스턴스 내부 캐시, 접속 상태, 조회 표시, ETag)를 사용한다.
+ * 캐시 갱신 등 블로킹 구간은 이벤트 루프 밖(boundedElastic)에서 실행한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "monitoring.reactive", name = "enabled", havingValue = "true")
+public class ReactiveMonitoringHandler {
+
+    private final MonitoringImageEventService monitoringImageEventService;
+    private final MonitoringImageService monitoringImageService;
+
+    /**
+     * 강의 이미지 스트림 (SSE)
+     */
+    public Mono<ServerResponse> imageStream(ServerRequest request) {
+        long lectureId = lectureId(request);
+        MonitoringImageResolution resolution = MonitoringImageResolution.from(request.queryParam("resolution").orElse("full"));
+
+        // 첫 구독 시 강의 바인딩(브로커 호출)이 일어나므로 구독은 이벤트 루프 밖에서 수행
+        Flux<MonitoringImageEvent> stream = Flux.concat(
+                Flux.just(MonitoringImageEvent.createInitEvent()),
+                monitoringImageEventService.stream(lectureId, resolution).subscribeOn(Schedulers.boundedElastic()));
+
+        return ServerResponse.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(stream, MonitoringImageEvent.class);
+    }
+
+    /**
+     * 강의 이미지 리스트 폴링 (If-None-Match 가 응답 ETag 와 같으면 304)
+     */
+    public Mono<ServerResponse> images(ServerRequest request) {
+        long lectureId = lectureId(request);
+        MonitoringImageResolution resolution = MonitoringImageResolution.from(request.queryParam("resolution").orElse("full"));
+        Map<Long, String> knownVersions = MonitoringController.parseVersions(request.queryParams().get("versions"));
+        List<String> ifNoneMatch = request.headers().header("If-None-Match");
+
+        return Mono.fromCallable(() -> monitoringImageService.getImages(lectureId, knownVersions, resolution))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(images -> {
+                    String eTag = monitoringImageService.getETag(images);
+                    if (ifNoneMatch.contains(eTag)) {
+                        return ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+                    }
+                    return ServerResponse.ok()
+                            .eTag(eTag)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(new CommonResponse<List<MonitoringImage>>(true, HttpStatus.OK, null, images));
+                });
+    }
+
+    /**
+     * BasicCustomException500 하위 예외를 MVC(CustomExceptionHandler)와 같은 상태 코드, 응답 형식으로 변환
+     */
+    public Mono<ServerResponse> handleException(Throwable throwable, ServerRequest request) {
+        BasicCustomException500 exception = (BasicCustomException500) throwable;
+        String classname = exception.getClass().getSimpleName();
+        log.error(classname + " : " + exception.getMessage());
+        HttpStatus status;
+        try {
+            status = HttpStatus.valueOf(Integer.parseInt(classname.substring(classname.length() - 3)));
+        }
+        catch (IllegalArgumentException e) {
+            status = HttpStatus.INTERNAL_SERVER_ERROR;
+        }
+        ErrorDefineCode code = exception.getCode();
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CommonResponse<>(false, status, code.getMessage(),
+                        new CommonError(code.getCode(), LocalDateTime.now())));
+    }
+
+    private long lectureId(ServerRequest request) {
+        try {
+            return Long.parseLong(request.queryParam("lectureId")
+                    .orElseThrow(() -> new PreconditionFailException412(ErrorDefineCode.MONITORING_LECTURE_ID_INVALID)));
+        }
+        catch (NumberFormatException e) {
+            throw new PreconditionFailException412(ErrorDefineCode.MONITORING_LECTURE_ID_INVALID);
+        }
+    }
+}
@@ -72,6 +72,10 @@ public class Member extends BaseEntity {
         this.birth = birth;
     }
 
+    public void changePassword(String password) {
+        this.password = password;
+    }
+
     public void delete() {
         this.deleted = true;
     }
@@ -0,0 +1,28 @@
+package com.didacto.dto.monitoring;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Redis 에 저장된 학생별 최신 화면 이미지
+ * image 는 요청 측이 이미 같은 version 을 보유하고 있으면 null
+ * onlineUntil 은 이 시각(epoch ms)까지 다음 업로드가 없으면 미접속 (조회하지 않은 경우 null)
+ * uploadedAt 은 마지막 업로드 시각(epoch ms), 이보다 이전에 업로드된 이미지로 교체하지 않는 데 사용 (조회하지 않은 경우 null)
+ */
+@Getter
+@AllArgsConstructor
+public class MonitoringFrame {
+    private Long memberId;
+    private String version;
+    private byte[] image;
+    private Long onlineUntil;
+    private Long uploadedAt;
+
+    public MonitoringFrame(Long memberId, String version, byte[] image) {
+        this(memberId, version, image, null, null);
+    }
+
+    public MonitoringFrame(Long memberId, String version, byte[] image, Long onlineUntil) {
+        this(memberId, version, image, onlineUntil, null);
+    }
+}
@@ -0,0 +1,20 @@
+package com.didacto.dto.monitoring;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 학생 이미지 저장 결과
+ */
+@Getter
+@AllArgsConstructor
+public class MonitoringFrameSaveResult {
+    // 직전 이미지와 version 이 달라 새로 저장되었는지 여부
+    private boolean changed;
+    // 학생에게 전달할 다음 업로드 주기(ms)
+    private long interval;
+    // 이 시각(epoch ms)까지 다음 업로드가 없으면 미접속
+    private long onlineUntil;
+    // 업로드 시각(epoch ms), 이벤트와 내부 캐시에서 이미지의 선후를 판단하는 데 사용
+    private long uploadedAt;
+}
@@ -1,5 +1,6 @@
 package com.didacto.dto.monitoring;
 
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -8,5 +9,8 @@ import lombok.Getter;
 public class MonitoringImage {
     private Long lectureId;
     private Long memberId;
+    @Schema(description = "Base64 인코딩된 이미지 데이터 (요청 시 전달한 version 과 같으면 null)")
     private String encodedImageBase64;
+    @Schema(description = "이미지 버전 (이미지가 변경되면 함께 변경됨)", example = "1a2b3c4d0001e240")
+    private String version;
 }
@@ -1,5 +1,8 @@
 package com.didacto.dto.monitoring;
 
+import com.didacto.common.util.ImageBase64Util;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,11 +16,56 @@ public class MonitoringImageEvent {
     private SSEType type;
     private Long tutorId;
     private Long lectureId;
-    private String encodedImageBase64;
+    private Long memberId;
+    // 이미지 해상도 (THUMB 이벤트는 썸네일 생성 후 별도로 전달됨)
+    private MonitoringImageResolution resolution;
+    // 원본 이미지의 version 과 업로드 시각(epoch ms), 수신한 인스턴스가 내부 캐시에 반영할 때 사용 (없으면 반영하지 않음)
+    private String version;
+    private Long uploadedAt;
+    // JPEG 원본 바이트 (SSE 응답에서는 encodedImageBase64 로 변환하여 전달)
+    @JsonIgnore
+    private byte[] image;
 
     static public MonitoringImageEvent createInitEvent() {
         return MonitoringImageEvent.builder()
                 .type(SSEType.INIT)
                 .build();
     }
+
+    static public MonitoringImageEvent createDataEvent(Long lectureId, Long memberId, byte[] image) {
+        return createDataEvent(lectureId, memberId, image, null, null);
+    }
+
+    static public MonitoringImageEvent createDataEvent(Long lectureId, Long memberId, byte[] image,
+                                                       String version, Long uploadedAt) {
+        return MonitoringImageEvent.builder()
+                .type(SSEType.DATA)
+                .lectureId(lectureId)
+                .memberId(memberId)
+                .resolution(MonitoringImageResolution.FULL)
+                .version(version)
+                .uploadedAt(uploadedAt)
+                .image(image)
+                .build();
+    }
+
+    static public MonitoringImageEvent createThumbnailEvent(Long lectureId, Long memberId, byte[] thumbnail) {
+        return MonitoringImageEvent.builder()
+                .type(SSEType.DATA)
+                .lectureId(lectureId)
+                .memberId(memberId)
+                .resolution(MonitoringImageResolution.THUMB)
+                .image(thumbnail)
+                .build();
+    }
+
+    @JsonProperty("encodedImageBase64")
+    public String getEncodedImageBase64() {
+        return image == null ? null : ImageBase64Util.encode(image);
+    }
+
+    @JsonProperty("encodedImageBase64")
+    public void setEncodedImageBase64(String encodedImageBase64) {
+        this.image = encodedImageBase64 == null ? null : ImageBase64Util.decode(encodedImageBase64);
+    }
 }
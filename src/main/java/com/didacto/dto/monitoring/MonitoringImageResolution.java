@@ -0,0 +1,15 @@
+package com.didacto.dto.monitoring;
+
+public enum MonitoringImageResolution {
+    // 그리드 화면용 축소 이미지
+    THUMB,
+    // 학생이 업로드한 원본 이미지
+    FULL;
+
+    /**
+     * 요청 파라미터(thumb, full) 변환, 알 수 없는 값이면 FULL
+     */
+    public static MonitoringImageResolution from(String value) {
+        return "thumb".equalsIgnoreCase(value) ? THUMB : FULL;
+    }
+}
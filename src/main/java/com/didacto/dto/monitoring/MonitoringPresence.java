@@ -0,0 +1,16 @@
+package com.didacto.dto.monitoring;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MonitoringPresence {
+    private Long lectureId;
+    private Long memberId;
+    @Schema(description = "접속 여부 (마지막 업로드 시 안내한 다음 업로드 주기와 여유 시간 이내이면 true)")
+    private boolean online;
+    @Schema(description = "마지막 업로드 시각 (epoch ms)", example = "1718000000000")
+    private Long lastSeenAt;
+}
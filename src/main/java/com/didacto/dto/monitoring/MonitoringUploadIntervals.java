@@ -0,0 +1,21 @@
+package com.didacto.dto.monitoring;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 학생 업로드 시 저장소에 전달하는 다음 업로드 주기 후보(ms, 인스턴스 부하 배율 적용)
+ * 저장소가 업로드 시점의 강의 조회 상태에 따라 하나를 선택하고, 접속 판단 기준 시각도 함께 기록한다.
+ */
+@Getter
+@AllArgsConstructor
+public class MonitoringUploadIntervals {
+    // 교수자가 확대하여 보고 있는 학생
+    private long focusInterval;
+    // 교수자가 조회 중인 강의 (다른 인스턴스의 구독/폴링 포함)
+    private long watchedInterval;
+    // 조회 중인 교수자가 없는 강의
+    private long idleInterval;
+    // 다음 업로드 예정 시각 이후에도 접속 중으로 보는 여유 시간
+    private long offlineGrace;
+}
@@ -0,0 +1,12 @@
+package com.didacto.dto.monitoring;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MonitoringUploadResponse {
+    @Schema(description = "다음 업로드까지 대기할 시간(ms), 서버 부하와 교수자 조회 상태에 따라 변경됨", example = "1000")
+    private long nextUploadIntervalMs;
+}
@@ -1,31 +1,107 @@
 package com.didacto.infra.redis;
 
 import com.didacto.common.ErrorDefineCode;
+import com.didacto.common.util.TokenDigestUtil;
 import com.didacto.config.exception.custom.BasicCustomException500;
-import lombok.AllArgsConstructor;
-import lombok.RequiredArgsConstructor;
+import com.didacto.config.task.TaskSchedulerConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Repository;
 
-import java.util.concurrent.TimeUnit;
-
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
 
+/**
+ * Refresh Token 저장소
+ * auth/refresh : Hash (memberId -> 만료 시각(8바이트) + 토큰의 SHA-256(32바이트))
+ * 토큰 원문 대신 고정 길이 다이제스트만 저장하고, 검증 시 다이제스트를 상수 시간으로 비교한다.
+ * 필드 단위 만료는 값에 포함된 만료 시각으로 판단하며, 만료된 필드는 조회 시와 주기적인 HSCAN 정리 작업에서 제거한다.
+ * (정리 작업은 공용 스케줄러(taskScheduler)에서 실행하며, auth/refresh/sweep 잠금을 얻은 인스턴스 하나만 수행)
+ * 만료된 필드는 읽은 값이 그대로일 때만 제거하여, 그 사이 새로 로그인한 회원의 토큰을 지우지 않는다.
+ */
 @Repository
 @Slf4j
-@RequiredArgsConstructor
 public class AuthRedisRepository {
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, byte[]> authRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AuthRefreshTokenCache authRefreshTokenCache;
+    private final long sweepIntervalMillis;
+    private final TaskScheduler taskScheduler;
+    private ScheduledFuture<?> sweepTask;
+
+    static final String REFRESH_KEY = "auth/refresh";
+    static final String SWEEP_LOCK_KEY = "auth/refresh/sweep";
+    private static final int ENTRY_SIZE = Long.BYTES + 32;
+    private static final int SWEEP_BATCH = 500;
+
+    /**
+     * KEYS[1] : auth/refresh
+     * ARGV : 제거할 memberId, 읽었던 값 쌍
+     * 값이 읽었던 값과 같은 필드만 제거하고 제거한 필드 수 반환 (읽은 뒤 새 토큰이 저장된 필드는 유지)
+     */
+    private static final byte[] DELETE_UNCHANGED_SCRIPT = (
+            "local removed = 0 " +
+            "for i = 1, #ARGV, 2 do " +
+            "  if redis.call('HGET', KEYS[1], ARGV[i]) == ARGV[i + 1] then " +
+            "    removed = removed + redis.call('HDEL', KEYS[1], ARGV[i]) " +
+            "  end " +
+            "end " +
+            "return removed"
+    ).getBytes(StandardCharsets.UTF_8);
 
     @Value("${jwt.refresh_token_expired_at}")
     private Long REFRESH_TOKEN_EXPIRE_TIME;
 
+    public AuthRedisRepository(RedisTemplate<String, byte[]> authRedisTemplate,
+                               StringRedisTemplate stringRedisTemplate,
+                               AuthRefreshTokenCache authRefreshTokenCache,
+                               @Qualifier(TaskSchedulerConfig.TASK_SCHEDULER) TaskScheduler taskScheduler,
+                               @Value("${auth.refresh-sweep.interval-ms:600000}") long sweepIntervalMillis) {
+        this.authRedisTemplate = authRedisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.authRefreshTokenCache = authRefreshTokenCache;
+        this.sweepIntervalMillis = sweepIntervalMillis;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @PostConstruct
+    private void start() {
+        // 가상 스레드 스케줄러는 고정 지연 작업을 스케줄러 스레드 하나에서 차례로 실행하므로, 발행기 작업을 막지 않도록 고정 주기로 실행
+        // (중복 실행은 잠금으로 막음)
+        sweepTask = taskScheduler.scheduleAtFixedRate(this::sweepSafely,
+                Instant.now().plusMillis(sweepIntervalMillis), Duration.ofMillis(sweepIntervalMillis));
+    }
+
+    @PreDestroy
+    private void stop() {
+        sweepTask.cancel(true);
+    }
+
     public void setRefreshAuthenticationInfo (Long memberId, String token) {
         try{
-            String key = String.format("auth/refresh/%d", memberId);
-            redisTemplate.opsForValue().set(key, token, REFRESH_TOKEN_EXPIRE_TIME, TimeUnit.MILLISECONDS);
+            long expiresAt = System.currentTimeMillis() + REFRESH_TOKEN_EXPIRE_TIME;
+            hash().put(REFRESH_KEY, memberId.toString(), encode(expiresAt, TokenDigestUtil.sha256(token)));
+            // 모든 인스턴스의 내부 캐시에서 이전 토큰 제거
+            authRefreshTokenCache.invalidate(memberId);
+            stringRedisTemplate.convertAndSend(AuthRefreshTokenCache.INVALIDATE_CHANNEL, memberId.toString());
         }
         catch(Exception e){
             throw new BasicCustomException500(ErrorDefineCode.REDIS_COMMAND_FAIL);
@@ -34,19 +110,94 @@ public class AuthRedisRepository {
     }
 
     public boolean validateRefreshToken (Long memberId, String token) {
+        // 짧은 시간 안에 반복되는 검증은 내부 캐시에서 처리
+        byte[] digest = TokenDigestUtil.sha256(token);
+        if (authRefreshTokenCache.matches(memberId, digest)) {
+            return true;
+        }
+
         try{
-            String key = String.format("auth/refresh/%d", memberId);
-            String savedToken = redisTemplate.opsForValue().get(key);
-            if(savedToken == null || !savedToken.equals(token)){
+            long generation = authRefreshTokenCache.generation();
+            byte[] entry = hash().get(REFRESH_KEY, memberId.toString());
+            if(entry == null || entry.length != ENTRY_SIZE){
                 return false;
             }
-            else{
-                return true;
+            ByteBuffer buffer = ByteBuffer.wrap(entry);
+            if(buffer.getLong() <= System.currentTimeMillis()){
+                deleteUnchanged(List.of(Map.entry(memberId.toString(), entry)));
+                return false;
             }
+            byte[] savedDigest = new byte[entry.length - Long.BYTES];
+            buffer.get(savedDigest);
+            authRefreshTokenCache.put(memberId, savedDigest, generation);
+            return TokenDigestUtil.matches(savedDigest, digest);
         }
         catch(Exception e){
             throw new BasicCustomException500(ErrorDefineCode.REDIS_COMMAND_FAIL);
         }
     }
 
+    /**
+     * 만료된 필드 정리 (HSCAN 으로 나누어 읽고 SWEEP_BATCH 단위로 HDEL)
+     * @return 제거한 필드 수
+     */
+    long sweepExpired() {
+        long now = System.currentTimeMillis();
+        long removed = 0;
+        List<Map.Entry<String, byte[]>> expired = new ArrayList<>(SWEEP_BATCH);
+        ScanOptions options = ScanOptions.scanOptions().count(SWEEP_BATCH).build();
+        try (Cursor<Map.Entry<String, byte[]>> cursor = hash().scan(REFRESH_KEY, options)) {
+            while (cursor.hasNext()) {
+                Map.Entry<String, byte[]> entry = cursor.next();
+                byte[] value = entry.getValue();
+                if (value == null || value.length != ENTRY_SIZE || ByteBuffer.wrap(value).getLong() <= now) {
+                    expired.add(entry);
+                }
+                if (expired.size() >= SWEEP_BATCH) {
+                    removed += deleteUnchanged(expired);
+                    expired.clear();
+                }
+            }
+        }
+        if (!expired.isEmpty()) {
+            removed += deleteUnchanged(expired);
+        }
+        return removed;
+    }
+
+    // 읽었던 값이 그대로인 필드만 제거 (비교와 제거를 한 번의 스크립트로 처리)
+    private long deleteUnchanged(List<Map.Entry<String, byte[]>> entries) {
+        byte[][] keysAndArgs = new byte[1 + entries.size() * 2][];
+        keysAndArgs[0] = REFRESH_KEY.getBytes(StandardCharsets.UTF_8);
+        int index = 1;
+        for (Map.Entry<String, byte[]> entry : entries) {
+            keysAndArgs[index++] = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            keysAndArgs[index++] = entry.getValue() == null ? new byte[0] : entry.getValue();
+        }
+        Long removed = authRedisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.scriptingCommands().eval(DELETE_UNCHANGED_SCRIPT, ReturnType.INTEGER, 1, keysAndArgs));
+        return removed == null ? 0 : removed;
+    }
+
+    private void sweepSafely() {
+        try {
+            Boolean locked = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(SWEEP_LOCK_KEY, "1", Duration.ofMillis(sweepIntervalMillis));
+            if (Boolean.TRUE.equals(locked)) {
+                log.info("expired refresh tokens removed: {}", sweepExpired());
+            }
+        }
+        catch (Exception e) {
+            log.warn("refresh token sweep fail", e);
+        }
+    }
+
+    private HashOperations<String, String, byte[]> hash() {
+        return authRedisTemplate.opsForHash();
+    }
+
+    private static byte[] encode(long expiresAt, byte[] digest) {
+        return ByteBuffer.allocate(ENTRY_SIZE).putLong(expiresAt).put(digest).array();
+    }
+
 }
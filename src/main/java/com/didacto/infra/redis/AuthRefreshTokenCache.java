@@ -0,0 +1,90 @@
+package com.didacto.infra.redis;
+
+import com.didacto.common.util.TokenDigestUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Refresh Token 검증용 인스턴스 내부 캐시 (memberId -> 저장된 토큰의 SHA-256)
+ * 짧은 ttl 동안만 유지하며, 새 토큰이 저장되면 Redis Pub/Sub(INVALIDATE_CHANNEL)으로 모든 인스턴스의 항목을 제거한다.
+ * 조회 도중 무효화 메세지를 받은 경우 조회 결과를 캐시하지 않도록 무효화 횟수(generation)를 함께 비교한다.
+ */
+@Slf4j
+@Component
+public class AuthRefreshTokenCache implements MessageListener {
+
+    public static final String INVALIDATE_CHANNEL = "auth/refresh/invalidate";
+
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Map<Long, CachedDigest> cache = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public AuthRefreshTokenCache(@Value("${auth.refresh-cache.ttl-ms:5000}") long ttlMillis,
+                                 @Value("${auth.refresh-cache.max-size:10000}") int maxSize) {
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 캐시된 토큰과 일치하면 true, 캐시가 없거나 다르면 false (다르면 새 토큰일 수 있으므로 Redis 에서 다시 확인)
+     */
+    public boolean matches(Long memberId, byte[] digest) {
+        CachedDigest cached = cache.get(memberId);
+        if (cached == null) {
+            return false;
+        }
+        if (cached.expiresAt <= System.currentTimeMillis()) {
+            cache.remove(memberId, cached);
+            return false;
+        }
+        return TokenDigestUtil.matches(cached.digest, digest);
+    }
+
+    /**
+     * 현재 무효화 횟수 (Redis 조회 전에 읽어서 put 에 전달)
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Redis 에서 읽은 토큰 저장 (조회 이후 무효화가 있었으면 저장하지 않음)
+     */
+    public void put(Long memberId, byte[] digest, long readGeneration) {
+        if (cache.size() >= maxSize) {
+            cache.clear();
+        }
+        cache.put(memberId, new CachedDigest(digest, System.currentTimeMillis() + ttlMillis));
+        // put 도중 무효화된 경우 방금 저장한 항목 제거
+        if (generation.get() != readGeneration) {
+            cache.remove(memberId);
+        }
+    }
+
+    public void invalidate(Long memberId) {
+        generation.incrementAndGet();
+        cache.remove(memberId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            invalidate(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8)));
+        }
+        catch (NumberFormatException e) {
+            log.warn("invalid refresh token invalidation message");
+        }
+    }
+
+    private record CachedDigest(byte[] digest, long expiresAt) {
+    }
+}
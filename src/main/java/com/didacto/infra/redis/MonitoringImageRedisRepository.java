@@ -0,0 +1,442 @@
+package com.didacto.infra.redis;
+
+import com.didacto.common.ErrorDefineCode;
+import com.didacto.config.exception.custom.BasicCustomException500;
+import com.didacto.dto.monitoring.MonitoringFrame;
+import com.didacto.dto.monitoring.MonitoringFrameSaveResult;
+import com.didacto.dto.monitoring.MonitoringImageResolution;
+import com.didacto.dto.monitoring.MonitoringPresence;
+import com.didacto.dto.monitoring.MonitoringUploadIntervals;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 강의별 모니터링 이미지 저장소
+ * monitoring/{lectureId}/frames   : Hash (memberId -> JPEG 원본 바이트)
+ * monitoring/{lectureId}/thumbs   : Hash (memberId -> 축소 JPEG 바이트, 원본과 같은 버전)
+ * monitoring/{lectureId}/versions : Hash (memberId -> 이미지 버전)
+ * monitoring/{lectureId}/index    : Sorted Set (memberId, score = 마지막 업로드 시각)
+ * monitoring/{lectureId}/online   : Hash (memberId -> 접속 판단 기준 시각, 다음 업로드 주기 + offline-grace)
+ * 필드 단위 만료는 index 의 score 로 판단하며, 만료된 필드는 조회 시 함께 정리한다.
+ * 내용이 같은 이미지가 다시 업로드되면 index 의 score 와 접속 기준 시각만 갱신한다.
+ * 학생 세션은 별도로 저장하지 않고 index(마지막 업로드 시각)와 online(접속 여부)으로 판단한다.
+ */
+@Repository
+@Slf4j
+@RequiredArgsConstructor
+public class MonitoringImageRedisRepository {
+
+    private final RedisTemplate<String, byte[]> monitoringRedisTemplate;
+
+    public static final long MONITORING_IMAGE_EXPIRE_TIME = 60 * 1000L;
+
+    private static final String FRAME_KEY = "monitoring/%d/frames";
+    private static final String THUMB_KEY = "monitoring/%d/thumbs";
+    private static final String VERSION_KEY = "monitoring/%d/versions";
+    private static final String INDEX_KEY = "monitoring/%d/index";
+    private static final String ONLINE_KEY = "monitoring/%d/online";
+
+    /**
+     * 썸네일이 아직 없어 원본으로 대체한 THUMB 이미지의 version 접미사
+     * 실제 썸네일과 다른 version 을 사용하여, 썸네일이 생성되면 변경분으로 다시 전달되도록 한다.
+     */
+    public static final String FULL_FALLBACK_SUFFIX = ":full";
+
+    /**
+     * KEYS[1] : frames, KEYS[2] : versions, KEYS[3] : index, KEYS[4] : thumbs, KEYS[5] : online
+     * ARGV[1] : 만료 기준 시각(ms), ARGV[2] : 해상도(thumb, full), ARGV[3..] : 요청 측이 보유한 memberId, version 쌍
+     * 만료된 필드를 정리한 뒤 유효한 memberId, version, image, 접속 기준 시각, 마지막 업로드 시각을 번갈아 담아 반환
+     * (보유한 version 과 같으면 image 는 nil, 썸네일이 아직 없으면 원본 image 와 "{version}:full", 업로드 종료 시 기준 시각 0)
+     */
+    private static final byte[] FIND_FRAMES_SCRIPT = (
+            "local threshold = tonumber(ARGV[1]) " +
+            "local stale = redis.call('ZRANGEBYSCORE', KEYS[3], '-inf', '(' .. threshold) " +
+            "if #stale > 0 then " +
+            "  redis.call('HDEL', KEYS[1], unpack(stale)) " +
+            "  redis.call('HDEL', KEYS[2], unpack(stale)) " +
+            "  redis.call('HDEL', KEYS[4], unpack(stale)) " +
+            "  redis.call('HDEL', KEYS[5], unpack(stale)) " +
+            "  redis.call('ZREMRANGEBYSCORE', KEYS[3], '-inf', '(' .. threshold) " +
+            "end " +
+            "local entries = redis.call('ZRANGEBYSCORE', KEYS[3], threshold, '+inf', 'WITHSCORES') " +
+            "if #entries == 0 then return {} end " +
+            "local members = {} " +
+            "local uploaded = {} " +
+            "for i = 1, #entries, 2 do " +
+            "  members[#members + 1] = entries[i] " +
+            "  uploaded[#members] = entries[i + 1] " +
+            "end " +
+            "local known = {} " +
+            "for i = 3, #ARGV, 2 do known[ARGV[i]] = ARGV[i + 1] end " +
+            "local versions = redis.call('HMGET', KEYS[2], unpack(members)) " +
+            "local online = redis.call('HMGET', KEYS[5], unpack(members)) " +
+            "local changed = {} " +
+            "local served = {} " +
+            "for i, member in ipairs(members) do " +
+            "  if versions[i] then " +
+            "    served[member] = versions[i] " +
+            "    if known[member] ~= versions[i] then changed[#changed + 1] = member end " +
+            "  end " +
+            "end " +
+            "local images = {} " +
+            "if #changed > 0 then " +
+            "  if ARGV[2] == 'thumb' then " +
+            "    local thumbs = redis.call('HMGET', KEYS[4], unpack(changed)) " +
+            "    for i, member in ipairs(changed) do " +
+            "      if thumbs[i] then " +
+            "        images[member] = thumbs[i] " +
+            "      else " +
+            "        served[member] = served[member] .. '" + FULL_FALLBACK_SUFFIX + "' " +
+            "        if known[member] ~= served[member] then images[member] = redis.call('HGET', KEYS[1], member) end " +
+            "      end " +
+            "    end " +
+            "  else " +
+            "    local values = redis.call('HMGET', KEYS[1], unpack(changed)) " +
+            "    for i, member in ipairs(changed) do images[member] = values[i] end " +
+            "  end " +
+            "end " +
+            "local result = {} " +
+            "for i, member in ipairs(members) do " +
+            "  local version = served[member] " +
+            "  if version then " +
+            "    local unchanged = known[member] == version " +
+            "    if unchanged or images[member] then " +
+            "      result[#result + 1] = member " +
+            "      result[#result + 1] = version " +
+            "      if unchanged then result[#result + 1] = false else result[#result + 1] = images[member] end " +
+            "      result[#result + 1] = online[i] or '0' " +
+            "      result[#result + 1] = uploaded[i] " +
+            "    end " +
+            "  end " +
+            "end " +
+            "return result"
+    ).getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * KEYS[1] : frames, KEYS[2] : versions, KEYS[3] : index, KEYS[4] : thumbs
+     * ARGV[1] : 만료 기준 시각(ms), ARGV[2] : memberId, ARGV[3] : 요청 측이 보유한 version, ARGV[4] : 해상도(thumb, full)
+     * 유효한 이미지가 있으면 version, image 반환
+     * (보유한 version 과 같으면 image 는 nil, 썸네일이 아직 없으면 원본 image 와 "{version}:full")
+     */
+    private static final byte[] FIND_FRAME_SCRIPT = (
+            "local score = redis.call('ZSCORE', KEYS[3], ARGV[2]) " +
+            "if not score or tonumber(score) < tonumber(ARGV[1]) then return {} end " +
+            "local version = redis.call('HGET', KEYS[2], ARGV[2]) " +
+            "if not version then return {} end " +
+            "if version == ARGV[3] then return {version, false} end " +
+            "if ARGV[4] == 'thumb' then " +
+            "  local thumb = redis.call('HGET', KEYS[4], ARGV[2]) " +
+            "  if thumb then return {version, thumb} end " +
+            "  version = version .. '" + FULL_FALLBACK_SUFFIX + "' " +
+            "  if version == ARGV[3] then return {version, false} end " +
+            "end " +
+            "local image = redis.call('HGET', KEYS[1], ARGV[2]) " +
+            "if not image then return {} end " +
+            "return {version, image}"
+    ).getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * KEYS[1] : frames, KEYS[2] : versions, KEYS[3] : index, KEYS[4] : thumbs, KEYS[5] : online, KEYS[6] : focus, KEYS[7] : watched
+     * ARGV[1] : memberId, ARGV[2] : version, ARGV[3] : 이미지, ARGV[4] : 현재 시각(ms), ARGV[5] : 만료 시간(ms),
+     * ARGV[6..8] : 다음 업로드 주기 후보(ms, 확대 중인 학생, 조회 중인 강의, 조회하지 않는 강의), ARGV[9] : 접속 여유 시간(ms)
+     * 저장, 인덱스 갱신, 업로드 주기 선택, 접속 기준 시각 기록, 만료 설정을 한 번의 왕복으로 처리
+     * (강의 전체가 종료되면 키가 남지 않도록 키 단위 만료도 갱신)
+     * 새로 저장했는지 여부(직전 version 과 같으면 이미지는 쓰지 않고 0), 선택한 주기, 접속 기준 시각 반환
+     */
+    private static final byte[] SAVE_FRAME_SCRIPT = (
+            "local changed = redis.call('HGET', KEYS[2], ARGV[1]) ~= ARGV[2] " +
+            "if changed then " +
+            "  redis.call('HSET', KEYS[1], ARGV[1], ARGV[3]) " +
+            "  redis.call('HSET', KEYS[2], ARGV[1], ARGV[2]) " +
+            "  redis.call('HDEL', KEYS[4], ARGV[1]) " +
+            "end " +
+            "redis.call('ZADD', KEYS[3], ARGV[4], ARGV[1]) " +
+            "local interval = tonumber(ARGV[8]) " +
+            "if redis.call('GET', KEYS[6]) == ARGV[1] then interval = tonumber(ARGV[6]) " +
+            "elseif redis.call('EXISTS', KEYS[7]) == 1 then interval = tonumber(ARGV[7]) end " +
+            "local onlineUntil = tonumber(ARGV[4]) + interval + tonumber(ARGV[9]) " +
+            "redis.call('HSET', KEYS[5], ARGV[1], string.format('%d', onlineUntil)) " +
+            "for i = 1, 5 do redis.call('PEXPIRE', KEYS[i], ARGV[5]) end " +
+            "return {changed and 1 or 0, interval, onlineUntil}"
+    ).getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * KEYS[1] : thumbs, KEYS[2] : versions
+     * ARGV[1] : memberId, ARGV[2] : 원본 version, ARGV[3] : 썸네일, ARGV[4] : 만료 시간(ms)
+     * 원본 version 이 그대로일 때만 저장 (생성 도중 새 이미지가 업로드된 경우 무시)
+     */
+    private static final byte[] SAVE_THUMBNAIL_SCRIPT = (
+            "if redis.call('HGET', KEYS[2], ARGV[1]) ~= ARGV[2] then return 0 end " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[3]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[4]) " +
+            "return 1"
+    ).getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * KEYS[1] : index, KEYS[2] : online
+     * ARGV[1] : 만료 기준 시각(ms)
+     * 유효한 학생의 memberId, 마지막 업로드 시각, 접속 기준 시각(업로드 종료 시 0)을 번갈아 담아 반환
+     */
+    private static final byte[] FIND_PRESENCES_SCRIPT = (
+            "local entries = redis.call('ZRANGEBYSCORE', KEYS[1], ARGV[1], '+inf', 'WITHSCORES') " +
+            "if #entries == 0 then return {} end " +
+            "local members = {} " +
+            "for i = 1, #entries, 2 do members[#members + 1] = entries[i] end " +
+            "local online = redis.call('HMGET', KEYS[2], unpack(members)) " +
+            "local result = {} " +
+            "for i, member in ipairs(members) do " +
+            "  result[#result + 1] = member " +
+            "  result[#result + 1] = entries[i * 2] " +
+            "  result[#result + 1] = online[i] or '0' " +
+            "end " +
+            "return result"
+    ).getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * KEYS[1] : index, KEYS[2] : online
+     * ARGV[1] : memberId
+     * 마지막 업로드 시각, 접속 기준 시각 반환 (업로드 기록이 없으면 빈 목록)
+     */
+    private static final byte[] FIND_PRESENCE_SCRIPT = (
+            "local score = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if not score then return {} end " +
+            "return {score, redis.call('HGET', KEYS[2], ARGV[1]) or '0'}"
+    ).getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * 학생의 최신 이미지 저장
+     * 직전 이미지와 version 이 같으면 이미지는 다시 쓰지 않고 업로드 시각과 만료 시간만 갱신한다.
+     * 업로드 시점의 강의 조회 상태(확대 중인 학생, 교수자 조회 여부)에 따라 다음 업로드 주기를 선택하고,
+     * 그 주기와 여유 시간이 지날 때까지 접속 중으로 기록한다.
+     */
+    public MonitoringFrameSaveResult saveFrame(long lectureId, long memberId, byte[] image, String version,
+                                               MonitoringUploadIntervals intervals) {
+        try {
+            long now = System.currentTimeMillis();
+            List<Object> result = monitoringRedisTemplate.execute((RedisCallback<List<Object>>) connection ->
+                    connection.scriptingCommands().eval(SAVE_FRAME_SCRIPT, ReturnType.MULTI, 7,
+                            frameKey(lectureId), versionKey(lectureId), indexKey(lectureId), thumbKey(lectureId),
+                            onlineKey(lectureId), sessionKey(MonitoringSessionRedisRepository.FOCUS_KEY, lectureId),
+                            sessionKey(MonitoringSessionRedisRepository.WATCHED_KEY, lectureId),
+                            toBytes(memberId), version.getBytes(StandardCharsets.UTF_8), image,
+                            toBytes(now), toBytes(MONITORING_IMAGE_EXPIRE_TIME),
+                            toBytes(intervals.getFocusInterval()), toBytes(intervals.getWatchedInterval()),
+                            toBytes(intervals.getIdleInterval()), toBytes(intervals.getOfflineGrace())));
+            if (result == null || result.size() < 3) {
+                throw new IllegalStateException("unexpected save frame result: " + result);
+            }
+            return new MonitoringFrameSaveResult(
+                    toLong(result.get(0)) == 1, toLong(result.get(1)), toLong(result.get(2)), now);
+        }
+        catch (Exception e) {
+            log.error("monitoring frame save fail: lecture{} member{}", lectureId, memberId, e);
+            throw new BasicCustomException500(ErrorDefineCode.REDIS_COMMAND_FAIL);
+        }
+    }
+
+    /**
+     * 원본 이미지의 썸네일 저장
+     * @return 저장 여부 (원본 이미지가 이미 다른 version 으로 교체되었으면 false)
+     */
+    public boolean saveThumbnail(long lectureId, long memberId, byte[] thumbnail, String version) {
+        try {
+            Boolean saved = monitoringRedisTemplate.execute((RedisCallback<Boolean>) connection ->
+                    connection.scriptingCommands().eval(SAVE_THUMBNAIL_SCRIPT, ReturnType.BOOLEAN, 2,
+                            thumbKey(lectureId), versionKey(lectureId),
+                            toBytes(memberId), version.getBytes(StandardCharsets.UTF_8), thumbnail,
+                            toBytes(MONITORING_IMAGE_EXPIRE_TIME)));
+            return Boolean.TRUE.equals(saved);
+        }
+        catch (Exception e) {
+            log.error("monitoring thumbnail save fail: lecture{} member{}", lectureId, memberId, e);
+            throw new BasicCustomException500(ErrorDefineCode.REDIS_COMMAND_FAIL);
+        }
+    }
+
+    /**
+     * 강의의 유효한(만료되지 않은) 이미지를 한 번의 요청으로 조회
+     * @param knownVersions 요청 측이 이미 보유한 memberId -> version (해당 이미지는 내용 없이 version 만 반환)
+     * @param resolution THUMB 이면 썸네일 반환 (아직 생성되지 않았으면 원본)
+     */
+    public List<MonitoringFrame> findFrames(long lectureId, Map<Long, String> knownVersions, MonitoringImageResolution resolution) {
+        try {
+            byte[][] keysAndArgs = new byte[7 + knownVersions.size() * 2][];
+            keysAndArgs[0] = frameKey(lectureId);
+            keysAndArgs[1] = versionKey(lectureId);
+            keysAndArgs[2] = indexKey(lectureId);
+            keysAndArgs[3] = thumbKey(lectureId);
+            keysAndArgs[4] = onlineKey(lectureId);
+            keysAndArgs[5] = toBytes(System.currentTimeMillis() - MONITORING_IMAGE_EXPIRE_TIME);
+            keysAndArgs[6] = resolutionArg(resolution);
+            int index = 7;
+            for (Map.Entry<Long, String> known : knownVersions.entrySet()) {
+                keysAndArgs[index++] = toBytes(known.getKey());
+                keysAndArgs[index++] = known.getValue().getBytes(StandardCharsets.UTF_8);
+            }
+
+            List<byte[]> result = monitoringRedisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                    connection.scriptingCommands().eval(FIND_FRAMES_SCRIPT, ReturnType.MULTI, 5, keysAndArgs));
+
+            List<MonitoringFrame> frames = new ArrayList<>();
+            if (result != null) {
+                for (int i = 0; i + 4 < result.size(); i += 5) {
+                    frames.add(new MonitoringFrame(
+                            toLong(result.get(i)),
+                            new String(result.get(i + 1), StandardCharsets.UTF_8),
+                            result.get(i + 2),
+                            toLong(result.get(i + 3)),
+                            (long) Double.parseDouble(new String(result.get(i + 4), StandardCharsets.UTF_8))
+                    ));
+                }
+            }
+            return frames;
+        }
+        catch (Exception e) {
+            log.error("monitoring frame query fail: lecture{}", lectureId, e);
+            throw new BasicCustomException500(ErrorDefineCode.REDIS_COMMAND_FAIL);
+        }
+    }
+
+    /**
+     * 학생 한 명의 유효한 이미지 조회
+     * @param knownVersion 요청 측이 이미 보유한 version (같으면 내용 없이 version 만 반환), 없으면 null
+     * @param resolution THUMB 이면 썸네일 반환 (아직 생성되지 않았으면 원본)
+     */
+    public Optional<MonitoringFrame> findFrame(long lectureId, long memberId, String knownVersion, MonitoringImageResolution resolution) {
+        try {
+            byte[] threshold = toBytes(System.currentTimeMillis() - MONITORING_IMAGE_EXPIRE_TIME);
+            byte[] known = knownVersion == null ? new byte[0] : knownVersion.getBytes(StandardCharsets.UTF_8);
+
+            List<byte[]> result = monitoringRedisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                    connection.scriptingCommands().eval(FIND_FRAME_SCRIPT, ReturnType.MULTI, 4,
+                            frameKey(lectureId), versionKey(lectureId), indexKey(lectureId), thumbKey(lectureId),
+                            threshold, toBytes(memberId), known, resolutionArg(resolution)));
+
+            if (result == null || result.size() < 2) {
+                return Optional.empty();
+            }
+            return Optional.of(new MonitoringFrame(
+                    memberId, new String(result.get(0), StandardCharsets.UTF_8), result.get(1)));
+        }
+        catch (Exception e) {
+            log.error("monitoring frame query fail: lecture{} member{}", lectureId, memberId, e);
+            throw new BasicCustomException500(ErrorDefineCode.REDIS_COMMAND_FAIL);
+        }
+    }
+
+    /**
+     * 이미지가 유지되는 동안(MONITORING_IMAGE_EXPIRE_TIME) 업로드한 학생의 접속 상태 (업로드 시각 순)
+     */
+    public List<MonitoringPresence> findPresences(long lectureId) {
+        try {
+            long now = System.currentTimeMillis();
+            List<byte[]> result = monitoringRedisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                    connection.scriptingCommands().eval(FIND_PRESENCES_SCRIPT, ReturnType.MULTI, 2,
+                            indexKey(lectureId), onlineKey(lectureId), toBytes(now - MONITORING_IMAGE_EXPIRE_TIME)));
+
+            List<MonitoringPresence> presences = new ArrayList<>();
+            if (result != null) {
+                for (int i = 0; i + 2 < result.size(); i += 3) {
+                    presences.add(toPresence(lectureId, toLong(result.get(i)), result.get(i + 1), result.get(i + 2), now));
+                }
+            }
+            return presences;
+        }
+        catch (Exception e) {
+            log.error("monitoring presence query fail: lecture{}", lectureId, e);
+            throw new BasicCustomException500(ErrorDefineCode.REDIS_COMMAND_FAIL);
+        }
+    }
+
+    /**
+     * 학생 한 명의 접속 상태 (이미지가 유지되는 동안 업로드 기록이 없으면 empty)
+     */
+    public Optional<MonitoringPresence> findPresence(long lectureId, long memberId) {
+        try {
+            long now = System.currentTimeMillis();
+            List<byte[]> result = monitoringRedisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                    connection.scriptingCommands().eval(FIND_PRESENCE_SCRIPT, ReturnType.MULTI, 2,
+                            indexKey(lectureId), onlineKey(lectureId), toBytes(memberId)));
+
+            if (result == null || result.size() < 2) {
+                return Optional.empty();
+            }
+            return Optional.of(toPresence(lectureId, memberId, result.get(0), result.get(1), now))
+                    .filter(presence -> presence.getLastSeenAt() >= now - MONITORING_IMAGE_EXPIRE_TIME);
+        }
+        catch (Exception e) {
+            log.error("monitoring presence query fail: lecture{} member{}", lectureId, memberId, e);
+            throw new BasicCustomException500(ErrorDefineCode.REDIS_COMMAND_FAIL);
+        }
+    }
+
+    /**
+     * 학생을 바로 미접속으로 표시 (업로드 채널이 닫힌 경우, 이미지는 만료 시까지 유지)
+     */
+    public void removePresence(long lectureId, long memberId) {
+        try {
+            monitoringRedisTemplate.execute((RedisCallback<Long>) connection ->
+                    connection.hashCommands().hDel(onlineKey(lectureId), toBytes(memberId)));
+        }
+        catch (Exception e) {
+            log.error("monitoring presence remove fail: lecture{} member{}", lectureId, memberId, e);
+            throw new BasicCustomException500(ErrorDefineCode.REDIS_COMMAND_FAIL);
+        }
+    }
+
+    private MonitoringPresence toPresence(long lectureId, long memberId, byte[] lastSeenAt, byte[] onlineUntil, long now) {
+        // 마지막 업로드 시각은 score 문자열이므로 소수 형식으로 읽음
+        long lastSeen = (long) Double.parseDouble(new String(lastSeenAt, StandardCharsets.UTF_8));
+        return new MonitoringPresence(lectureId, memberId, toLong(onlineUntil) >= now, lastSeen);
+    }
+
+    private byte[] frameKey(long lectureId) {
+        return String.format(FRAME_KEY, lectureId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] thumbKey(long lectureId) {
+        return String.format(THUMB_KEY, lectureId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] versionKey(long lectureId) {
+        return String.format(VERSION_KEY, lectureId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] indexKey(long lectureId) {
+        return String.format(INDEX_KEY, lectureId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] onlineKey(long lectureId) {
+        return String.format(ONLINE_KEY, lectureId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] sessionKey(String pattern, long lectureId) {
+        return String.format(pattern, lectureId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] resolutionArg(MonitoringImageResolution resolution) {
+        return (resolution == MonitoringImageResolution.THUMB ? "thumb" : "full").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] toBytes(long value) {
+        return Long.toString(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 스크립트 반환값은 정수 응답(Long) 또는 문자열 응답(byte[])
+    private long toLong(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return Long.parseLong(new String((byte[]) value, StandardCharsets.UTF_8));
+    }
+}
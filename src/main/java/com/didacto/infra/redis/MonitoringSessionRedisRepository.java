@@ -0,0 +1,72 @@
+package com.didacto.infra.redis;
+
+import com.didacto.common.ErrorDefineCode;
+import com.didacto.config.exception.custom.BasicCustomException500;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 강의별 교수자 조회 상태 저장소 (학생 업로드 주기 계산용)
+ * monitoring/{lectureId}/focus    : String (교수자가 확대하여 보고 있는 학생의 memberId)
+ * monitoring/{lectureId}/watched  : String (교수자가 조회 중인 강의 표시, 조회 중에 주기적으로 만료 갱신)
+ * 학생의 접속 상태는 이미지 저장 시 함께 기록한다. (MonitoringImageRedisRepository)
+ */
+@Repository
+@Slf4j
+@RequiredArgsConstructor
+public class MonitoringSessionRedisRepository {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 업로드 시 MonitoringImageRedisRepository 의 저장 스크립트에서도 읽음
+    static final String FOCUS_KEY = "monitoring/%d/focus";
+    static final String WATCHED_KEY = "monitoring/%d/watched";
+
+    /**
+     * 교수자가 확대하여 보고 있는 학생 지정 (timeout 이후 자동 해제)
+     */
+    public void setFocus(long lectureId, long memberId, long timeout) {
+        try {
+            stringRedisTemplate.opsForValue().set(focusKey(lectureId), Long.toString(memberId), timeout, TimeUnit.MILLISECONDS);
+        }
+        catch (Exception e) {
+            log.error("monitoring focus save fail: lecture{} member{}", lectureId, memberId, e);
+            throw new BasicCustomException500(ErrorDefineCode.REDIS_COMMAND_FAIL);
+        }
+    }
+
+    public void removeFocus(long lectureId) {
+        try {
+            stringRedisTemplate.delete(focusKey(lectureId));
+        }
+        catch (Exception e) {
+            log.error("monitoring focus remove fail: lecture{}", lectureId, e);
+            throw new BasicCustomException500(ErrorDefineCode.REDIS_COMMAND_FAIL);
+        }
+    }
+
+    /**
+     * 교수자가 강의를 조회 중임을 표시 (timeout 동안 유지)
+     */
+    public void setWatched(long lectureId, long timeout) {
+        try {
+            stringRedisTemplate.opsForValue().set(watchedKey(lectureId), "1", timeout, TimeUnit.MILLISECONDS);
+        }
+        catch (Exception e) {
+            log.error("monitoring watched save fail: lecture{}", lectureId, e);
+            throw new BasicCustomException500(ErrorDefineCode.REDIS_COMMAND_FAIL);
+        }
+    }
+
+    private String focusKey(long lectureId) {
+        return String.format(FOCUS_KEY, lectureId);
+    }
+
+    private String watchedKey(long lectureId) {
+        return String.format(WATCHED_KEY, lectureId);
+    }
+}
@@ -5,8 +5,10 @@ import com.didacto.domain.Member;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -15,5 +17,16 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String email);
     boolean existsByEmail(String email);
 
+    /**
+     * 저장된 비밀번호 해시가 그대로일 때만 교체 (로그인 시 약한 해시를 다시 저장하는 짧은 트랜잭션)
+     * @return 교체된 행 수 (그 사이 비밀번호가 변경되었으면 0)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Member m set m.password = :newPassword where m.id = :id and m.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+
 
 }
\ No newline at end of file
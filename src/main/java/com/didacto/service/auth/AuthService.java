@@ -12,7 +12,6 @@ import com.didacto.dto.auth.*;
 import com.didacto.infra.redis.AuthRedisRepository;
 import com.didacto.repository.member.MemberRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,7 +25,7 @@ import java.time.format.DateTimeFormatter;
 @RequiredArgsConstructor
 public class AuthService {
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashExecutor passwordHashExecutor;
     private final TokenProvider tokenProvider;
     private final AuthRedisRepository authRedisRepository;
 
@@ -38,7 +37,10 @@ public class AuthService {
         return result.getId();
     }
 
-    @Transactional
+    /**
+     * 로그인 (트랜잭션 없이 회원을 조회한 뒤 BCrypt 검증, 다시 저장이 필요한 해시만 짧은 트랜잭션으로 교체)
+     * 해시 검증 시간 동안 DB 커넥션을 점유하지 않도록 메소드 전체를 트랜잭션으로 묶지 않는다.
+     */
     public TokenResponse signIn(LoginRequest req) {
         Member member = memberRepository.findByEmail(req.getEmail()).orElseThrow(() -> {
             throw new AuthCredientialException401(ErrorDefineCode.AUTH_NOT_FOUND_EMAIL);
@@ -83,7 +85,7 @@ public class AuthService {
 
         Member member = Member.builder()
                 .email(req.getEmail())
-                .password(passwordEncoder.encode(req.getPassword()))
+                .password(passwordHashExecutor.encode(req.getPassword()))
                 .name(req.getName())
                 .birth(parseBirth(req.getBirth()))
                 .role(role)
@@ -106,9 +108,15 @@ public class AuthService {
     }
 
     private void validatePassword(LoginRequest loginRequest, Member member) {
-        if (!passwordEncoder.matches(loginRequest.getPassword(), member.getPassword())) {
+        if (!passwordHashExecutor.matches(loginRequest.getPassword(), member.getPassword())) {
             throw new AuthCredientialException401(ErrorDefineCode.AUTH_NMATCH_PWD);
         }
+        // 현재 설정보다 약한 해시(strength 변경, 접두사 없는 기존 해시)는 검증에 성공한 비밀번호로 다시 저장
+        if (passwordHashExecutor.upgradeEncoding(member.getPassword())) {
+            String encoded = passwordHashExecutor.encode(loginRequest.getPassword());
+            // 해시 계산 도중 비밀번호가 변경되었으면 교체하지 않음
+            memberRepository.updatePasswordIfUnchanged(member.getId(), member.getPassword(), encoded);
+        }
     }
 
 
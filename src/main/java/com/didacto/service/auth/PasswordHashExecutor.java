@@ -0,0 +1,114 @@
+package com.didacto.service.auth;
+
+import com.didacto.common.ErrorDefineCode;
+import com.didacto.config.exception.custom.exception.TooManyRequestsException429;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 비밀번호 해시 계산 전용 작업 풀 (BCrypt 검증/생성)
+ * 강의 시작 직후 로그인이 몰려도 해시 계산은 pool-size 개의 스레드에서만 실행되어 다른 API 의 CPU 를 점유하지 않는다.
+ * 대기열이 가득 차거나 timeout 안에 처리되지 않으면 429 로 응답한다.
+ * 이미 시작된 BCrypt 계산은 중단되지 않으므로, 대기열은 timeout 안에 처리할 수 있는 크기(기본 pool-size x 16)로 둔다.
+ */
+@Slf4j
+@Component
+public class PasswordHashExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final long timeoutMillis;
+
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+
+    private static final int QUEUE_PER_THREAD = 16;
+
+    public PasswordHashExecutor(PasswordEncoder passwordEncoder,
+                                MeterRegistry meterRegistry,
+                                @Value("${auth.password.pool-size:0}") int poolSize,
+                                @Value("${auth.password.queue-capacity:-1}") int queueCapacity,
+                                @Value("${auth.password.timeout-ms:2000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+        // 0 이면 코어 수만큼 사용
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(threads);
+        this.executor.setMaxPoolSize(threads);
+        // 음수이면 스레드당 16개 (cost 10 기준 해시 1회 약 80ms, 가장 늦게 들어온 요청도 timeout 안에 시작)
+        this.executor.setQueueCapacity(queueCapacity >= 0 ? queueCapacity : threads * QUEUE_PER_THREAD);
+        this.executor.setThreadNamePrefix("password-hash-");
+        this.executor.initialize();
+
+        this.hashTimer = meterRegistry.timer("auth.password.hash");
+        this.rejectedCounter = meterRegistry.counter("auth.password.rejected");
+        meterRegistry.gauge("auth.password.queue.depth", executor,
+                pool -> pool.getThreadPoolExecutor().getQueue().size());
+    }
+
+    @PreDestroy
+    private void stop() {
+        executor.shutdown();
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 저장된 해시가 현재 설정(알고리즘, cost)보다 약하면 true (해시 계산 없이 형식만 확인)
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> hashTimer.recordCallable(task));
+        }
+        catch (TaskRejectedException e) {
+            rejectedCounter.increment();
+            throw new TooManyRequestsException429(ErrorDefineCode.AUTH_PASSWORD_BUSY);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        catch (TimeoutException e) {
+            // 대기열에 남아 있는 작업은 실행되지 않고 버려지지만, 이미 시작된 BCrypt 계산은 인터럽트를 확인하지 않아 끝까지 실행된다.
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new TooManyRequestsException429(ErrorDefineCode.AUTH_PASSWORD_BUSY);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TooManyRequestsException429(ErrorDefineCode.AUTH_PASSWORD_BUSY);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
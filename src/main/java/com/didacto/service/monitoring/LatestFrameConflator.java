@@ -0,0 +1,102 @@
+package com.didacto.service.monitoring;
+
+import com.didacto.dto.monitoring.MonitoringImageEvent;
+import io.micrometer.core.instrument.Counter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 구독자별 최신 프레임 우선(conflating) 스트림
+ * 구독자가 아직 요청하지 않은 프레임은 학생(memberId)당 하나만 보관하고,
+ * 새 프레임이 도착하면 이전 프레임을 버린다. (보관 메모리는 강의 학생 수로 제한됨)
+ */
+class LatestFrameConflator {
+
+    private final Counter deliveredCounter;
+    private final Counter droppedCounter;
+
+    LatestFrameConflator(Counter deliveredCounter, Counter droppedCounter) {
+        this.deliveredCounter = deliveredCounter;
+        this.droppedCounter = droppedCounter;
+    }
+
+    Flux<MonitoringImageEvent> conflate(Flux<MonitoringImageEvent> upstream) {
+        return Flux.create(sink -> {
+            PendingFrames pending = new PendingFrames(sink);
+            Disposable subscription = upstream.subscribe(
+                    pending::offer,
+                    sink::error,
+                    sink::complete
+            );
+            sink.onRequest(n -> pending.drain());
+            sink.onDispose(subscription);
+        });
+    }
+
+    private class PendingFrames {
+        private final FluxSink<MonitoringImageEvent> sink;
+        private final Map<Long, MonitoringImageEvent> frames = new LinkedHashMap<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        PendingFrames(FluxSink<MonitoringImageEvent> sink) {
+            this.sink = sink;
+        }
+
+        void offer(MonitoringImageEvent event) {
+            lock.lock();
+            try {
+                // 같은 학생의 대기 중인 프레임은 최신 프레임으로 교체 (대기 순서는 유지)
+                if (frames.put(event.getMemberId(), event) != null) {
+                    droppedCounter.increment();
+                }
+            }
+            finally {
+                lock.unlock();
+            }
+            drain();
+        }
+
+        // 요청 수만큼 대기 중인 프레임을 전달 (동시에 호출되어도 한 스레드만 전달)
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                while (sink.requestedFromDownstream() > 0 && !sink.isCancelled()) {
+                    MonitoringImageEvent next = poll();
+                    if (next == null) {
+                        break;
+                    }
+                    sink.next(next);
+                    deliveredCounter.increment();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private MonitoringImageEvent poll() {
+            lock.lock();
+            try {
+                Iterator<MonitoringImageEvent> iterator = frames.values().iterator();
+                if (!iterator.hasNext()) {
+                    return null;
+                }
+                MonitoringImageEvent next = iterator.next();
+                iterator.remove();
+                return next;
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,501 @@
+package com.didacto.service.monitoring;
+
+import com.didacto.dto.monitoring.MonitoringFrame;
+import com.didacto.dto.monitoring.MonitoringImageResolution;
+import com.didacto.infra.redis.MonitoringImageRedisRepository;
+import io.micrometer.core.instrument.Counter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * 강의별 최신 이미지의 JVM 내부 캐시 (Redis 가 원본 저장소)
+ * 강의(해상도) 단위 스냅샷을 refresh-interval 동안 그대로 제공하고, 만료되면 보유한 version 을 전달하여
+ * 변경된 이미지만 Redis 에서 다시 읽는다. 그 사이 이 인스턴스로 업로드되거나 RabbitMQ 로 수신한 이미지는 즉시 반영한다.
+ * 학생별 접속 기준 시각도 함께 보관하여, 목록 조회 시 별도 Redis 조회 없이 접속 중인 학생의 이미지만 전달한다.
+ * Redis 갱신은 스냅샷 잠금 밖에서 한 요청만 수행하며, 그동안 다른 요청은 이전 스냅샷을 그대로 받는다. (최초 조회만 대기)
+ * 전체 이미지 바이트가 max-bytes 를 넘으면 가장 오래 조회되지 않은 강의의 스냅샷부터 제거하고,
+ * idle-timeout 동안 조회되지 않았거나 비어 있는 오래된 스냅샷(종료된 강의 등)도 주기적으로 제거한다.
+ * 이미지는 힙 대신 Pooled Direct 버퍼에 보관하여, 오래 유지되는 이미지가 Old 영역을 채우지 않도록 한다.
+ * (버퍼는 교체/제거 시 반환하며, 조회 시에는 참조 카운트를 늘린 복제본을 전달한 뒤 반환)
+ */
+@Component
+public class MonitoringFrameNearCache {
+
+    private static final PooledByteBufAllocator ALLOCATOR = PooledByteBufAllocator.DEFAULT;
+
+    private final MonitoringImageRedisRepository monitoringImageRedisRepository;
+    private final long refreshIntervalMillis;
+    private final long maxBytes;
+    private final long idleTimeoutMillis;
+
+    private final Map<SnapshotKey, LectureSnapshot> snapshots = new ConcurrentHashMap<>();
+    // 제거 작업은 한 스레드에서만 수행
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private volatile long idleSweptAt = System.currentTimeMillis();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public MonitoringFrameNearCache(MonitoringImageRedisRepository monitoringImageRedisRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${monitoring.near-cache.refresh-interval-ms:1000}") long refreshIntervalMillis,
+                                    @Value("${monitoring.near-cache.max-bytes:67108864}") long maxBytes,
+                                    @Value("${monitoring.near-cache.idle-timeout-ms:60000}") long idleTimeoutMillis) {
+        this.monitoringImageRedisRepository = monitoringImageRedisRepository;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+        this.maxBytes = maxBytes;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.hitCounter = meterRegistry.counter("monitoring.near_cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("monitoring.near_cache.requests", "result", "miss");
+        meterRegistry.gauge("monitoring.near_cache.bytes", totalBytes);
+        meterRegistry.gauge("monitoring.near_cache.direct.bytes", ALLOCATOR,
+                allocator -> allocator.metric().usedDirectMemory());
+    }
+
+    /**
+     * 캐시된 이미지를 읽는 함수 (payload 는 호출 중에만 유효)
+     */
+    @FunctionalInterface
+    public interface FrameReader<T> {
+        T read(long memberId, String version, ByteBuffer payload);
+    }
+
+    /**
+     * 캐시된 이미지를 하나씩 처리하는 함수 (payload 는 호출 중에만 유효)
+     */
+    @FunctionalInterface
+    public interface FrameConsumer {
+        void accept(long memberId, String version, ByteBuffer payload) throws IOException;
+    }
+
+    /**
+     * 강의의 접속 중인 학생의 이미지 목록 (스냅샷이 refresh-interval 보다 오래되었으면 Redis 에서 변경분을 읽어 갱신)
+     * @param reader 이미지별로 호출되며, 스냅샷 잠금 밖에서 실행됨
+     */
+    public <T> List<T> getFrames(long lectureId, MonitoringImageResolution resolution, FrameReader<T> reader) {
+        List<CachedFrame> retained = retainFrames(lectureId, resolution);
+        List<T> result = new ArrayList<>(retained.size());
+        try {
+            for (CachedFrame frame : retained) {
+                result.add(reader.read(frame.memberId, frame.version, frame.payload.nioBuffer()));
+            }
+        }
+        finally {
+            retained.forEach(CachedFrame::release);
+        }
+        return result;
+    }
+
+    /**
+     * 강의의 접속 중인 학생의 이미지를 학생 번호 순으로 하나씩 전달 (응답 스트리밍용, 한 번에 한 이미지만 변환)
+     * @param consumer 이미지별로 호출되며, 스냅샷 잠금 밖에서 실행됨
+     */
+    public void forEachFrame(long lectureId, MonitoringImageResolution resolution, FrameConsumer consumer) throws IOException {
+        List<CachedFrame> retained = retainFrames(lectureId, resolution);
+        try {
+            for (CachedFrame frame : retained) {
+                consumer.accept(frame.memberId, frame.version, frame.payload.nioBuffer());
+            }
+        }
+        finally {
+            retained.forEach(CachedFrame::release);
+        }
+    }
+
+    // 스냅샷을 필요 시 갱신한 뒤, 잠금 밖에서 읽을 수 있도록 참조 카운트를 늘린 접속 중인 학생의 버퍼 목록 반환 (학생 번호 순)
+    private List<CachedFrame> retainFrames(long lectureId, MonitoringImageResolution resolution) {
+        SnapshotKey key = new SnapshotKey(lectureId, resolution);
+        List<CachedFrame> retained = null;
+        while (retained == null) {
+            LectureSnapshot snapshot = snapshots.computeIfAbsent(key, k -> new LectureSnapshot());
+            Refresh refresh = null;
+            CompletableFuture<Void> inFlight = null;
+            snapshot.lock.lock();
+            try {
+                // 대기하는 동안 제거된 스냅샷이면 새 스냅샷으로 다시 시도
+                if (snapshot.evicted) {
+                    continue;
+                }
+                long now = System.currentTimeMillis();
+                snapshot.accessedAt = now;
+                if (snapshot.isFresh(now)) {
+                    hitCounter.increment();
+                    retained = snapshot.retainOnline(now);
+                }
+                else if (snapshot.refreshing == null) {
+                    missCounter.increment();
+                    refresh = snapshot.startRefresh();
+                }
+                else if (snapshot.isSynced()) {
+                    // 다른 요청이 갱신 중이면 이전 스냅샷을 그대로 제공
+                    hitCounter.increment();
+                    retained = snapshot.retainOnline(now);
+                }
+                else {
+                    inFlight = snapshot.refreshing;
+                }
+            }
+            finally {
+                snapshot.lock.unlock();
+            }
+
+            if (refresh != null) {
+                retained = refresh(lectureId, resolution, snapshot, refresh);
+            }
+            else if (inFlight != null) {
+                // 최초 조회는 갱신이 끝날 때까지 기다린 뒤 다시 시도 (갱신 실패 시 다음 요청이 다시 갱신)
+                inFlight.handle((result, error) -> null).join();
+            }
+        }
+        cleanUp();
+        retained.sort(Comparator.comparingLong(frame -> frame.memberId));
+        return retained;
+    }
+
+    /**
+     * 갱신 주기 이내의 스냅샷에 있는 학생 이미지 (스냅샷이 없거나 오래되었으면 empty)
+     * @param knownVersion 요청 측이 이미 보유한 version, 같으면 image 가 null 인 프레임 반환
+     */
+    public Optional<MonitoringFrame> getFreshFrame(long lectureId, long memberId, MonitoringImageResolution resolution,
+                                                   String knownVersion) {
+        LectureSnapshot snapshot = snapshots.get(new SnapshotKey(lectureId, resolution));
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+
+        snapshot.lock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            if (snapshot.evicted || !snapshot.isFresh(now)) {
+                return Optional.empty();
+            }
+            snapshot.accessedAt = now;
+            hitCounter.increment();
+            CachedFrame frame = snapshot.frames.get(memberId);
+            if (frame == null) {
+                return Optional.empty();
+            }
+            byte[] image = frame.version.equals(knownVersion) ? null : ByteBufUtil.getBytes(frame.payload);
+            return Optional.of(new MonitoringFrame(memberId, frame.version, image));
+        }
+        finally {
+            snapshot.lock.unlock();
+        }
+    }
+
+    /**
+     * 새 이미지 반영 (조회 중인 강의의 스냅샷이 있을 때만)
+     * 보유한 이미지와 version 이 같거나 보유한 이미지가 더 나중에 업로드되었으면 반영하지 않는다. (늦게 도착한 이벤트 등)
+     * 접속 기준 시각은 이전 이미지의 값을 유지하며, 처음 반영되는 학생은 다음 Redis 갱신 전까지 접속 중으로 본다.
+     * @param uploadedAt 업로드 시각(epoch ms)
+     */
+    public void update(long lectureId, long memberId, MonitoringImageResolution resolution, String version,
+                       long uploadedAt, byte[] image) {
+        LectureSnapshot snapshot = snapshots.get(new SnapshotKey(lectureId, resolution));
+        if (snapshot == null) {
+            return;
+        }
+
+        snapshot.lock.lock();
+        try {
+            CachedFrame previous = snapshot.frames.get(memberId);
+            if (snapshot.evicted || previous != null
+                    && (previous.version.equals(version) || previous.uploadedAt > uploadedAt)) {
+                return;
+            }
+            long onlineUntil = previous != null
+                    ? previous.onlineUntil : System.currentTimeMillis() + refreshIntervalMillis;
+            snapshot.put(CachedFrame.copyOf(
+                    memberId, version, image, uploadedAt, ++snapshot.updateSequence, onlineUntil));
+        }
+        finally {
+            snapshot.lock.unlock();
+        }
+        cleanUp();
+    }
+
+    /**
+     * 이 인스턴스로 업로드한 학생의 접속 기준 시각 반영 (모든 해상도의 스냅샷, 이미지가 있는 경우만)
+     */
+    public void touch(long lectureId, long memberId, long onlineUntil) {
+        for (MonitoringImageResolution resolution : MonitoringImageResolution.values()) {
+            LectureSnapshot snapshot = snapshots.get(new SnapshotKey(lectureId, resolution));
+            if (snapshot == null) {
+                continue;
+            }
+
+            snapshot.lock.lock();
+            try {
+                CachedFrame frame = snapshot.frames.get(memberId);
+                if (frame != null) {
+                    frame.onlineUntil = onlineUntil;
+                }
+            }
+            finally {
+                snapshot.lock.unlock();
+            }
+        }
+    }
+
+    // 잠금 밖에서 Redis 의 변경분을 읽은 뒤 잠금 안에서 교체, 교체한 스냅샷의 버퍼 목록 반환
+    private List<CachedFrame> refresh(long lectureId, MonitoringImageResolution resolution,
+                                      LectureSnapshot snapshot, Refresh refresh) {
+        List<MonitoringFrame> loaded = null;
+        try {
+            loaded = monitoringImageRedisRepository.findFrames(lectureId, refresh.knownVersions, resolution);
+        }
+        finally {
+            snapshot.lock.lock();
+            try {
+                snapshot.refreshing = null;
+                if (loaded != null) {
+                    snapshot.apply(loaded, refresh.sequence);
+                    snapshot.syncedAt = System.currentTimeMillis();
+                }
+            }
+            finally {
+                snapshot.lock.unlock();
+                refresh.done.complete(null);
+            }
+        }
+
+        snapshot.lock.lock();
+        try {
+            return snapshot.evicted ? null : snapshot.retainOnline(System.currentTimeMillis());
+        }
+        finally {
+            snapshot.lock.unlock();
+        }
+    }
+
+    private void cleanUp() {
+        evictIdle();
+        evictIfNeeded();
+    }
+
+    // idle-timeout 동안 조회되지 않았거나, 비어 있고 갱신 주기가 지난 스냅샷 제거 (idle-timeout 의 1/4 주기로만 확인)
+    private void evictIdle() {
+        long now = System.currentTimeMillis();
+        if (now - idleSweptAt < idleTimeoutMillis / 4 || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            idleSweptAt = now;
+            for (Map.Entry<SnapshotKey, LectureSnapshot> entry : snapshots.entrySet()) {
+                removeSnapshot(entry.getKey(), entry.getValue(), snapshot ->
+                        now - snapshot.accessedAt >= idleTimeoutMillis
+                                || snapshot.frames.isEmpty() && !snapshot.isFresh(now));
+            }
+        }
+        finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // 가장 오래 조회되지 않은 스냅샷부터 제거 (갱신 중인 스냅샷은 건너뜀)
+    private void evictIfNeeded() {
+        if (totalBytes.get() <= maxBytes || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            List<Map.Entry<SnapshotKey, LectureSnapshot>> candidates = new ArrayList<>(snapshots.entrySet());
+            candidates.sort(Comparator.comparingLong(entry -> entry.getValue().accessedAt));
+            for (Map.Entry<SnapshotKey, LectureSnapshot> candidate : candidates) {
+                if (totalBytes.get() <= maxBytes) {
+                    break;
+                }
+                removeSnapshot(candidate.getKey(), candidate.getValue(), snapshot -> true);
+            }
+        }
+        finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // 사용 중(잠금, 갱신 중)인 스냅샷은 건너뜀
+    private void removeSnapshot(SnapshotKey key, LectureSnapshot snapshot, Predicate<LectureSnapshot> condition) {
+        if (!snapshot.lock.tryLock()) {
+            return;
+        }
+        try {
+            if (snapshot.refreshing == null && condition.test(snapshot)) {
+                snapshot.evict();
+                snapshots.remove(key, snapshot);
+            }
+        }
+        finally {
+            snapshot.lock.unlock();
+        }
+    }
+
+    private record SnapshotKey(long lectureId, MonitoringImageResolution resolution) {
+    }
+
+    // 진행 중인 갱신 (요청 시점에 보유한 version 과 반영 순번)
+    private record Refresh(Map<Long, String> knownVersions, long sequence, CompletableFuture<Void> done) {
+    }
+
+    private static class CachedFrame {
+        private final long memberId;
+        private final String version;
+        private final ByteBuf payload;
+        // 업로드 시각 (이보다 이전에 업로드된 이미지로는 교체하지 않음)
+        private final long uploadedAt;
+        // 스냅샷에 반영된 순번 (갱신 도중 직접 반영된 이미지 구분용)
+        private final long sequence;
+        // 이 시각까지 다음 업로드가 없으면 미접속 (스냅샷 잠금 안에서만 변경)
+        private long onlineUntil;
+
+        private CachedFrame(long memberId, String version, ByteBuf payload, long uploadedAt, long sequence,
+                            long onlineUntil) {
+            this.memberId = memberId;
+            this.version = version;
+            this.payload = payload;
+            this.uploadedAt = uploadedAt;
+            this.sequence = sequence;
+            this.onlineUntil = onlineUntil;
+        }
+
+        private static CachedFrame copyOf(long memberId, String version, byte[] image, long uploadedAt,
+                                          long sequence, long onlineUntil) {
+            ByteBuf payload = ALLOCATOR.directBuffer(image.length, image.length);
+            payload.writeBytes(image);
+            return new CachedFrame(memberId, version, payload, uploadedAt, sequence, onlineUntil);
+        }
+
+        private CachedFrame retain() {
+            return new CachedFrame(memberId, version, payload.retainedDuplicate(), uploadedAt, sequence, onlineUntil);
+        }
+
+        private void release() {
+            payload.release();
+        }
+
+        private int size() {
+            return payload.readableBytes();
+        }
+    }
+
+    private class LectureSnapshot {
+        private final ReentrantLock lock = new ReentrantLock();
+        private Map<Long, CachedFrame> frames = new HashMap<>();
+        private long bytes;
+        private long syncedAt = Long.MIN_VALUE;
+        private volatile long accessedAt = System.currentTimeMillis();
+        private boolean evicted;
+        private long updateSequence;
+        // 진행 중인 Redis 갱신 (없으면 null)
+        private CompletableFuture<Void> refreshing;
+
+        private boolean isSynced() {
+            return syncedAt != Long.MIN_VALUE;
+        }
+
+        private boolean isFresh(long now) {
+            return isSynced() && now - syncedAt < refreshIntervalMillis;
+        }
+
+        private List<CachedFrame> retainOnline(long now) {
+            List<CachedFrame> retained = new ArrayList<>(frames.size());
+            for (CachedFrame frame : frames.values()) {
+                if (frame.onlineUntil >= now) {
+                    retained.add(frame.retain());
+                }
+            }
+            return retained;
+        }
+
+        private Refresh startRefresh() {
+            Map<Long, String> knownVersions = new HashMap<>();
+            frames.forEach((memberId, frame) -> knownVersions.put(memberId, frame.version));
+            refreshing = new CompletableFuture<>();
+            return new Refresh(knownVersions, updateSequence, refreshing);
+        }
+
+        // Redis 조회 결과 반영, 조회 도중 직접 반영된(sequence 이후) 이미지는 그대로 유지
+        private void apply(List<MonitoringFrame> loaded, long sequence) {
+            Map<Long, CachedFrame> refreshed = new HashMap<>();
+            long now = System.currentTimeMillis();
+            for (MonitoringFrame frame : loaded) {
+                CachedFrame cached = frames.get(frame.getMemberId());
+                long onlineUntil = frame.getOnlineUntil() != null ? frame.getOnlineUntil() : now + refreshIntervalMillis;
+                if (cached != null && cached.sequence > sequence) {
+                    refreshed.put(frame.getMemberId(), cached);
+                }
+                else if (cached != null && frame.getImage() == null && cached.version.equals(frame.getVersion())) {
+                    // 보유한 version 과 같은 이미지는 내용 없이 반환되므로 캐시된 버퍼를 그대로 유지
+                    cached.onlineUntil = onlineUntil;
+                    refreshed.put(frame.getMemberId(), cached);
+                }
+                else if (frame.getImage() != null) {
+                    long uploadedAt = frame.getUploadedAt() != null ? frame.getUploadedAt() : Long.MIN_VALUE;
+                    refreshed.put(frame.getMemberId(), CachedFrame.copyOf(frame.getMemberId(), frame.getVersion(),
+                            frame.getImage(), uploadedAt, ++updateSequence, onlineUntil));
+                }
+            }
+            for (CachedFrame cached : frames.values()) {
+                if (cached.sequence > sequence) {
+                    refreshed.putIfAbsent(cached.memberId, cached);
+                }
+            }
+            replace(refreshed);
+        }
+
+        private void put(CachedFrame frame) {
+            CachedFrame previous = frames.put(frame.memberId, frame);
+            long delta = frame.size();
+            if (previous != null) {
+                delta -= previous.size();
+                previous.release();
+            }
+            addBytes(delta);
+        }
+
+        private void replace(Map<Long, CachedFrame> refreshed) {
+            long size = 0;
+            for (CachedFrame frame : refreshed.values()) {
+                size += frame.size();
+            }
+            // 새 스냅샷으로 옮겨지지 않은 버퍼 반환
+            for (CachedFrame frame : frames.values()) {
+                if (refreshed.get(frame.memberId) != frame) {
+                    frame.release();
+                }
+            }
+            frames = refreshed;
+            addBytes(size - bytes);
+        }
+
+        private void evict() {
+            evicted = true;
+            frames.values().forEach(CachedFrame::release);
+            totalBytes.addAndGet(-bytes);
+            frames = new HashMap<>();
+            bytes = 0;
+        }
+
+        private void addBytes(long delta) {
+            bytes += delta;
+            totalBytes.addAndGet(delta);
+        }
+    }
+}
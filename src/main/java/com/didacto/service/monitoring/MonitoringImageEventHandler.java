@@ -1,59 +1,68 @@
 package com.didacto.service.monitoring;
 
 import com.didacto.dto.monitoring.MonitoringImageEvent;
-import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
+import com.didacto.dto.monitoring.MonitoringImageResolution;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Sinks;
 
 import java.io.IOException;
+import java.util.Objects;
 
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class MonitoringImageEventHandler {
-    @Value("${rabbitmq.exchange.name}")
-    private String exchangeName;
-    @Value("${rabbitmq.routing.key}")
-    private String routingKey;
-    private final RabbitTemplate rabbitTemplate;
-    private Sinks.Many<MonitoringImageEvent> sink;
+    private final MonitoringImageEventPublisher publisher;
+    private final MonitoringImageSinkRegistry sinkRegistry;
+    private final MonitoringFrameNearCache nearCache;
+    private final LatestFrameConflator conflator;
 
-    /**
-     * 클라이언트에서 사용될 이벤트 스트림 초기화
-     */
-    @PostConstruct
-    private void init() {
-        this.sink = Sinks.many().multicast().onBackpressureBuffer();
+    public MonitoringImageEventHandler(MonitoringImageEventPublisher publisher,
+                                       MonitoringImageSinkRegistry sinkRegistry,
+                                       MonitoringFrameNearCache nearCache,
+                                       MeterRegistry meterRegistry) {
+        this.publisher = publisher;
+        this.sinkRegistry = sinkRegistry;
+        this.nearCache = nearCache;
+        this.conflator = new LatestFrameConflator(
+                meterRegistry.counter("monitoring.stream.frames", "result", "delivered"),
+                meterRegistry.counter("monitoring.stream.frames", "result", "dropped"));
     }
 
     /**
-     * 큐에 쌓인 이벤트를 수신하여 스트림으로 전달
+     * 큐에 쌓인 이벤트를 수신하여 해당 강의의 스트림으로 전달
      */
-    @RabbitListener(queues = "${rabbitmq.queue.name}")
+    @RabbitListener(queues = "#{monitoringEventQueue.name}")
     public void handleEvent(MonitoringImageEvent event) {
-        log.debug("push event: lecture{} tutor{}", event.getLectureId(), event.getTutorId());
-        sink.tryEmitNext(event);
+        log.debug("handle event: lecture{} member{}", event.getLectureId(), event.getMemberId());
+        sinkRegistry.emit(event);
+        // 다른 인스턴스로 업로드된 원본 이미지도 내부 캐시에 반영 (썸네일은 다음 갱신 시 반영)
+        // 이미 같은 version 이거나 더 최근 이미지를 보유한 경우는 내부 캐시에서 건너뜀 (자신이 발행한 이벤트 포함)
+        if (event.getImage() != null && event.getVersion() != null && event.getUploadedAt() != null
+                && event.getResolution() != MonitoringImageResolution.THUMB) {
+            nearCache.update(event.getLectureId(), event.getMemberId(), MonitoringImageResolution.FULL,
+                    event.getVersion(), event.getUploadedAt(), event.getImage());
+        }
     }
 
     /**
-     * 큐에 이벤트 추가
+     * 큐에 이벤트 추가 (발행기가 짧은 주기로 모아서 비동기 발행, 요청 스레드는 브로커 응답을 기다리지 않음)
      */
     public void pushEvent(MonitoringImageEvent event) {
-        log.debug("push event: lecture{} tutor{}", event.getLectureId(), event.getTutorId());
-        this.rabbitTemplate.convertAndSend(exchangeName, routingKey, event);
+        log.debug("push event: lecture{} member{}", event.getLectureId(), event.getMemberId());
+        publisher.publish(event);
     }
 
     /**
-     * 스트림 반환
+     * 강의 스트림 반환 (요청한 해상도의 이벤트만 전달)
+     * 느린 구독자에게는 학생별 최신 프레임만 전달 (대기 중인 이전 프레임은 버림)
      */
-    public Flux<MonitoringImageEvent> stream() {
-        return sink.asFlux()
+    public Flux<MonitoringImageEvent> stream(Long lectureId, MonitoringImageResolution resolution) {
+        Flux<MonitoringImageEvent> events = sinkRegistry.subscribe(lectureId)
+                .filter(event -> resolution == Objects.requireNonNullElse(event.getResolution(), MonitoringImageResolution.FULL));
+        return conflator.conflate(events)
                 .onErrorResume(IOException.class, e ->
                         Flux.empty())
                 .doOnError(e -> {
@@ -63,4 +72,4 @@ public class MonitoringImageEventHandler {
                     log.info("stream cancelled");
                 });
     }
-}
\ No newline at end of file
+}
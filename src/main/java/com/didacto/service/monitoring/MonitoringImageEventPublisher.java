@@ -0,0 +1,164 @@
+package com.didacto.service.monitoring;
+
+import com.didacto.config.rabbitmq.MonitoringEventTopology;
+import com.didacto.config.task.TaskSchedulerConfig;
+import com.didacto.dto.monitoring.MonitoringImageEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.batch.MessageBatch;
+import org.springframework.amqp.rabbit.batch.SimpleBatchingStrategy;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모니터링 이미지 이벤트 비동기 발행기
+ * 요청 스레드는 큐에 이벤트를 넣기만 하고, 공용 스케줄러(taskScheduler)가 batch-window 마다 모아서
+ * 학생별 최신 프레임만 남긴 뒤 강의(Routing Key) 단위로 하나의 메세지로 묶어 Publisher Confirm 과 함께 발행한다.
+ * (수신 측 Listener Container 가 묶인 메세지를 개별 이벤트로 풀어서 전달)
+ */
+@Component
+@Slf4j
+public class MonitoringImageEventPublisher {
+
+    private static final int BATCH_SIZE = 64;
+    private static final int BATCH_BUFFER_LIMIT = 1024 * 1024;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final MonitoringEventTopology topology;
+    private final BlockingQueue<MonitoringImageEvent> queue;
+    private final long batchWindowMillis;
+    private final TaskScheduler taskScheduler;
+    private ScheduledFuture<?> flushTask;
+
+    private final Counter publishedCounter;
+    private final Counter conflatedCounter;
+    private final Counter droppedCounter;
+    private final Counter nackCounter;
+    private final Timer confirmTimer;
+
+    public MonitoringImageEventPublisher(RabbitTemplate rabbitTemplate,
+                                         MonitoringEventTopology topology,
+                                         MeterRegistry meterRegistry,
+                                         @Qualifier(TaskSchedulerConfig.TASK_SCHEDULER) TaskScheduler taskScheduler,
+                                         @Value("${monitoring.publisher.queue-capacity:1024}") int queueCapacity,
+                                         @Value("${monitoring.publisher.batch-window-ms:20}") long batchWindowMillis) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.topology = topology;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchWindowMillis = batchWindowMillis;
+        this.taskScheduler = taskScheduler;
+
+        meterRegistry.gauge("monitoring.publisher.queue.depth", queue, BlockingQueue::size);
+        this.publishedCounter = meterRegistry.counter("monitoring.publisher.frames", "result", "published");
+        this.conflatedCounter = meterRegistry.counter("monitoring.publisher.frames", "result", "conflated");
+        this.droppedCounter = meterRegistry.counter("monitoring.publisher.frames", "result", "dropped");
+        this.nackCounter = meterRegistry.counter("monitoring.publisher.frames", "result", "nacked");
+        this.confirmTimer = meterRegistry.timer("monitoring.publisher.confirm.latency");
+    }
+
+    @PostConstruct
+    private void start() {
+        flushTask = taskScheduler.scheduleWithFixedDelay(this::flushSafely,
+                Instant.now().plusMillis(batchWindowMillis), Duration.ofMillis(batchWindowMillis));
+    }
+
+    @PreDestroy
+    private void stop() {
+        flushTask.cancel(false);
+        flushSafely();
+    }
+
+    /**
+     * 발행 큐에 이벤트 추가 (큐가 가득 차면 가장 오래된 이벤트를 버림)
+     */
+    public void publish(MonitoringImageEvent event) {
+        while (!queue.offer(event)) {
+            if (queue.poll() != null) {
+                droppedCounter.increment();
+            }
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        }
+        catch (Exception e) {
+            log.error("monitoring event publish fail", e);
+        }
+    }
+
+    void flush() {
+        List<MonitoringImageEvent> drained = new ArrayList<>();
+        queue.drainTo(drained);
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        // 같은 학생의 프레임은 해상도별로 최신 프레임만 남김
+        Map<String, MonitoringImageEvent> latest = new LinkedHashMap<>();
+        for (MonitoringImageEvent event : drained) {
+            latest.put(event.getLectureId() + "/" + event.getMemberId() + "/" + event.getResolution(), event);
+        }
+        conflatedCounter.increment(drained.size() - latest.size());
+
+        // 강의 단위로 정렬하여 같은 Routing Key 의 이벤트를 하나의 메세지로 묶음
+        List<MonitoringImageEvent> events = new ArrayList<>(latest.values());
+        events.sort(Comparator.comparing(MonitoringImageEvent::getLectureId));
+
+        SimpleBatchingStrategy batchingStrategy = new SimpleBatchingStrategy(BATCH_SIZE, BATCH_BUFFER_LIMIT, Long.MAX_VALUE);
+        List<MessageBatch> batches = new ArrayList<>();
+        for (MonitoringImageEvent event : events) {
+            Message message = rabbitTemplate.getMessageConverter().toMessage(event, new MessageProperties());
+            MessageBatch batch = batchingStrategy.addToBatch(
+                    topology.getExchange(), topology.getRoutingKey(event.getLectureId()), message);
+            if (batch != null) {
+                batches.add(batch);
+            }
+        }
+        batches.addAll(batchingStrategy.releaseBatches());
+
+        for (MessageBatch batch : batches) {
+            send(batch);
+        }
+    }
+
+    private void send(MessageBatch batch) {
+        int frames = batch.getMessage().getMessageProperties().getHeader(AmqpHeaders.BATCH_SIZE) instanceof Integer size ? size : 1;
+        CorrelationData correlationData = new CorrelationData();
+        long sentAt = System.nanoTime();
+        correlationData.getFuture().whenComplete((confirm, e) -> {
+            confirmTimer.record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+            if (e != null || !confirm.isAck()) {
+                nackCounter.increment(frames);
+                log.warn("monitoring event not confirmed: {} {}", batch.getRoutingKey(),
+                        e != null ? e.getMessage() : confirm.getReason());
+            }
+        });
+        rabbitTemplate.send(batch.getExchange(), batch.getRoutingKey(), batch.getMessage(), correlationData);
+        publishedCounter.increment(frames);
+    }
+}
@@ -1,6 +1,7 @@
 package com.didacto.service.monitoring;
 
 import com.didacto.dto.monitoring.MonitoringImageEvent;
+import com.didacto.dto.monitoring.MonitoringImageResolution;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
@@ -10,13 +11,16 @@ import reactor.core.publisher.Flux;
 //@Transactional(readOnly = true)
 public class MonitoringImageEventService {
     private final MonitoringImageEventHandler monitoringImageEventHandler;
+    private final MonitoringSessionService monitoringSessionService;
 
     /**
      * 모니터링 이미지 스트림 연결
+     * 구독 중에는 이벤트를 받을 때마다 조회 중임을 표시 (학생 업로드 주기 계산용, 일정 주기로만 기록)
      */
-    public Flux<MonitoringImageEvent> stream(Long lectureId) {
-        return monitoringImageEventHandler.stream()
-                .filter(event -> event.getLectureId().equals(lectureId));
+    public Flux<MonitoringImageEvent> stream(Long lectureId, MonitoringImageResolution resolution) {
+        return monitoringImageEventHandler.stream(lectureId, resolution)
+                .doOnSubscribe(subscription -> monitoringSessionService.markWatched(lectureId))
+                .doOnNext(event -> monitoringSessionService.markWatched(lectureId));
     }
 
     /**
@@ -1,60 +1,244 @@
 package com.didacto.service.monitoring;
 
 import com.didacto.common.ErrorDefineCode;
-import com.didacto.config.exception.custom.BasicCustomException500;
+import com.didacto.common.util.ImageBase64Util;
+import com.didacto.common.util.ImageVersionUtil;
+import com.didacto.config.exception.custom.exception.FileUploadException500;
+import com.didacto.config.exception.custom.exception.NoSuchElementFoundException404;
+import com.didacto.config.exception.custom.exception.PreconditionFailException412;
+import com.didacto.dto.monitoring.MonitoringFrame;
+import com.didacto.dto.monitoring.MonitoringFrameSaveResult;
 import com.didacto.dto.monitoring.MonitoringImage;
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import com.didacto.dto.monitoring.MonitoringImageEvent;
+import com.didacto.dto.monitoring.MonitoringImageResolution;
+import com.didacto.dto.monitoring.MonitoringUploadIntervals;
+import com.didacto.dto.monitoring.MonitoringUploadResponse;
+import com.didacto.infra.redis.MonitoringImageRedisRepository;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.zip.CRC32C;
 
 @Service
-@RequiredArgsConstructor
 public class MonitoringImageService {
-    private final RedisTemplate<String, String> redisTemplate;
+    private final MonitoringImageRedisRepository monitoringImageRedisRepository;
+    private final MonitoringImageEventService monitoringImageEventService;
+    private final MonitoringThumbnailService monitoringThumbnailService;
+    private final MonitoringFrameNearCache monitoringFrameNearCache;
+    private final MonitoringSessionService monitoringSessionService;
+    private final MonitoringUploadRateService monitoringUploadRateService;
 
-    private static final long MONITORING_IMAGE_EXPIRE_TIME = 60 * 1000L;
+    private final Counter storedCounter;
+    private final Counter suppressedCounter;
 
-    public void upload(long lectureId, long memberId, String image) {
-        try{
-            String key = String.format("monitoring/%d/%d", lectureId, memberId);
-            redisTemplate.opsForValue().set(key, image, MONITORING_IMAGE_EXPIRE_TIME, TimeUnit.MILLISECONDS);
-        }
-        catch(Exception e){
-            throw new BasicCustomException500(ErrorDefineCode.REDIS_COMMAND_FAIL);
-        }
+    public static final int MAX_IMAGE_SIZE = 2 * 1024 * 1024;
+
+    // 스트리밍 응답에서 Direct 버퍼를 Base64 로 변환할 때 재사용하는 배열 크기
+    private static final int BASE64_CHUNK_SIZE = 8 * 1024;
+
+    // 응답 스트림은 서블릿 컨테이너가 닫도록 유지
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    public MonitoringImageService(MonitoringImageRedisRepository monitoringImageRedisRepository,
+                                  MonitoringImageEventService monitoringImageEventService,
+                                  MonitoringThumbnailService monitoringThumbnailService,
+                                  MonitoringFrameNearCache monitoringFrameNearCache,
+                                  MonitoringSessionService monitoringSessionService,
+                                  MonitoringUploadRateService monitoringUploadRateService,
+                                  MeterRegistry meterRegistry) {
+        this.monitoringImageRedisRepository = monitoringImageRedisRepository;
+        this.monitoringImageEventService = monitoringImageEventService;
+        this.monitoringThumbnailService = monitoringThumbnailService;
+        this.monitoringFrameNearCache = monitoringFrameNearCache;
+        this.monitoringSessionService = monitoringSessionService;
+        this.monitoringUploadRateService = monitoringUploadRateService;
+        this.storedCounter = meterRegistry.counter("monitoring.upload.frames", "result", "stored");
+        this.suppressedCounter = meterRegistry.counter("monitoring.upload.frames", "result", "suppressed");
+        // 전체 업로드 중 변경 없는 화면이라 저장/전달을 생략한 비율
+        Gauge.builder("monitoring.upload.suppression.ratio", this, MonitoringImageService::getSuppressionRatio)
+                .register(meterRegistry);
     }
 
-    public List<MonitoringImage> getImages(Long lectureId) {
-        try{
-            Set<String> keys = redisTemplate.keys("monitoring/" + lectureId + "/*");
-            List<MonitoringImage> monitoringImages = new ArrayList<>();
+    /**
+     * Base64 인코딩된 이미지 업로드 (기존 JSON 클라이언트 호환)
+     */
+    public MonitoringUploadResponse upload(long lectureId, long memberId, String encodedImage) {
+        if (encodedImage == null || encodedImage.isEmpty()) {
+            throw new PreconditionFailException412(ErrorDefineCode.MONITORING_IMAGE_EMPTY);
+        }
 
-            if (keys != null && !keys.isEmpty()) {
-                for (String key : keys) {
-                    // 키에서 memberId 추출 (monitoring/lectureId/memberId 형식)
-                    String[] keyParts = key.split("/");
-                    if (keyParts.length >= 3) {
-                        Long memberId = Long.parseLong(keyParts[2]);  // 세 번째 요소가 memberId
+        byte[] image;
+        try {
+            image = ImageBase64Util.decode(encodedImage);
+        }
+        catch (IllegalArgumentException e) {
+            throw new PreconditionFailException412(ErrorDefineCode.MONITORING_IMAGE_INVALID_ENCODING);
+        }
+        return upload(lectureId, memberId, image);
+    }
 
-                        // Redis에서 해당 key에 대한 image 가져오기
-                        String image = redisTemplate.opsForValue().get(key);
+    /**
+     * 요청 본문의 JPEG 바이트를 그대로 읽어 업로드
+     * @param contentLength 알 수 없는 경우 -1
+     */
+    public MonitoringUploadResponse upload(long lectureId, long memberId, InputStream inputStream, long contentLength) {
+        if (contentLength > MAX_IMAGE_SIZE) {
+            throw new PreconditionFailException412(ErrorDefineCode.MONITORING_IMAGE_TOO_LARGE);
+        }
 
-                        monitoringImages.add(new MonitoringImage(lectureId, memberId, image));
-                    } else {
-                        throw new BasicCustomException500(ErrorDefineCode.REDIS_COMMAND_FAIL);
-                    }
+        byte[] image;
+        try {
+            if (contentLength >= 0) {
+                // 길이를 알고 있으면 한 번에 할당하여 중간 버퍼 복사를 피함
+                image = new byte[(int) contentLength];
+                if (inputStream.readNBytes(image, 0, image.length) < image.length) {
+                    throw new FileUploadException500(ErrorDefineCode.MONITORING_IMAGE_READ_FAIL);
                 }
             }
+            else {
+                image = inputStream.readNBytes(MAX_IMAGE_SIZE + 1);
+            }
+        }
+        catch (IOException e) {
+            throw new FileUploadException500(ErrorDefineCode.MONITORING_IMAGE_READ_FAIL);
+        }
+        return upload(lectureId, memberId, image);
+    }
 
-            return monitoringImages;
+    /**
+     * 이미지 업로드
+     * @return 다음 업로드까지 대기할 시간 (교수자 조회 상태와 서버 부하에 따라 계산)
+     */
+    public MonitoringUploadResponse upload(long lectureId, long memberId, byte[] image) {
+        if (image.length == 0) {
+            throw new PreconditionFailException412(ErrorDefineCode.MONITORING_IMAGE_EMPTY);
+        }
+        if (image.length > MAX_IMAGE_SIZE) {
+            throw new PreconditionFailException412(ErrorDefineCode.MONITORING_IMAGE_TOO_LARGE);
         }
-        catch(Exception e){
-            throw new BasicCustomException500(ErrorDefineCode.REDIS_COMMAND_FAIL);
+        String version = ImageVersionUtil.version(image);
+        // 저장과 함께 다음 업로드 주기를 선택하고, 화면이 변경되지 않았더라도 그 주기 동안 접속 중인 것으로 갱신
+        MonitoringUploadIntervals intervals = monitoringUploadRateService.getIntervals(lectureId);
+        long start = System.nanoTime();
+        MonitoringFrameSaveResult saved = monitoringImageRedisRepository.saveFrame(lectureId, memberId, image, version, intervals);
+        monitoringUploadRateService.record(saved.getInterval(), System.nanoTime() - start);
+        MonitoringUploadResponse response = new MonitoringUploadResponse(saved.getInterval());
+        if (!saved.isChanged()) {
+            // 직전 화면과 같으면 만료 시간과 접속 상태만 갱신되며, 다시 전달하지 않음
+            suppressedCounter.increment();
+            monitoringFrameNearCache.touch(lectureId, memberId, saved.getOnlineUntil());
+            return response;
+        }
+        storedCounter.increment();
+        monitoringFrameNearCache.update(lectureId, memberId, MonitoringImageResolution.FULL,
+                version, saved.getUploadedAt(), image);
+        monitoringFrameNearCache.touch(lectureId, memberId, saved.getOnlineUntil());
+        // 강의 스트림 구독자에게 전달 (다른 인스턴스가 내부 캐시에 반영할 수 있도록 version 과 업로드 시각 포함)
+        monitoringImageEventService.pushEvent(
+                MonitoringImageEvent.createDataEvent(lectureId, memberId, image, version, saved.getUploadedAt()));
+        // 그리드 화면용 썸네일은 별도 작업 풀에서 생성 (생성되면 THUMB 스트림으로 전달)
+        monitoringThumbnailService.generate(lectureId, memberId, image, version, saved.getUploadedAt());
+        return response;
+    }
+
+    /**
+     * 강의에 업로드된 최신 이미지 목록 조회 (MONITORING_IMAGE_EXPIRE_TIME 이내에 업로드된 이미지 중 접속 중인 학생만 반환)
+     * @param knownVersions 교수자가 이미 보유한 memberId -> version, 변경되지 않은 이미지는 내용 없이 version 만 반환
+     * @param resolution THUMB 이면 그리드 화면용 썸네일 반환
+     */
+    public List<MonitoringImage> getImages(Long lectureId, Map<Long, String> knownVersions, MonitoringImageResolution resolution) {
+        // 인스턴스 내부 캐시에서 조회 (갱신 주기가 지났으면 Redis 에서 변경분만 읽어 갱신)
+        monitoringSessionService.markWatched(lectureId);
+        // 캐시된 Direct 버퍼에서 바로 Base64 로 변환 (접속 상태도 스냅샷에 함께 있으며, 접속이 끊긴 학생은 전달되지 않음)
+        List<MonitoringImage> images = monitoringFrameNearCache.getFrames(lectureId, resolution,
+                (memberId, version, payload) -> new MonitoringImage(lectureId, memberId,
+                        version.equals(knownVersions.get(memberId)) ? null : ImageBase64Util.encode(payload),
+                        version));
+        return images.stream()
+                .sorted(Comparator.comparing(MonitoringImage::getMemberId))
+                .toList();
+    }
+
+    /**
+     * 강의에 업로드된 최신 이미지 목록을 이미지 단위로 바로 출력 (getImages 응답과 같은 CommonResponse 형식)
+     * 이미지는 캐시된 Direct 버퍼에서 응답 스트림으로 바로 Base64 인코딩하므로, 이미지마다 문자열이나 배열을 만들지 않는다.
+     * (접속 중인 학생만 출력)
+     */
+    public void writeImages(Long lectureId, Map<Long, String> knownVersions, MonitoringImageResolution resolution,
+                            OutputStream outputStream) throws IOException {
+        monitoringSessionService.markWatched(lectureId);
+        byte[] chunk = new byte[BASE64_CHUNK_SIZE];
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeStringField("status", HttpStatus.OK.name());
+            generator.writeNullField("message");
+            generator.writeArrayFieldStart("response");
+            monitoringFrameNearCache.forEachFrame(lectureId, resolution, (memberId, version, payload) -> {
+                generator.writeStartObject();
+                generator.writeNumberField("lectureId", lectureId);
+                generator.writeNumberField("memberId", memberId);
+                if (version.equals(knownVersions.get(memberId))) {
+                    generator.writeNullField("encodedImageBase64");
+                }
+                else {
+                    // 여는 따옴표까지 생성기로 쓴 뒤, Base64 내용은 출력 스트림에 바로 기록 (이스케이프가 필요 없는 문자만 사용)
+                    generator.writeFieldName("encodedImageBase64");
+                    generator.writeRawValue("\"");
+                    generator.flush();
+                    ImageBase64Util.write(payload, outputStream, chunk);
+                    generator.writeRaw('"');
+                }
+                generator.writeStringField("version", version);
+                generator.writeEndObject();
+                // 변환한 이미지는 바로 소켓으로 전송
+                generator.flush();
+            });
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * 학생 한 명의 최신 이미지 조회
+     * @param knownVersion 교수자가 이미 보유한 version, 같으면 image 가 null 인 프레임 반환
+     * @param resolution THUMB 이면 썸네일 반환
+     */
+    public MonitoringFrame getImage(Long lectureId, Long memberId, String knownVersion, MonitoringImageResolution resolution) {
+        return monitoringFrameNearCache.getFreshFrame(lectureId, memberId, resolution, knownVersion)
+                .or(() -> monitoringImageRedisRepository.findFrame(lectureId, memberId, knownVersion, resolution))
+                .orElseThrow(() -> new NoSuchElementFoundException404(ErrorDefineCode.MONITORING_IMAGE_NOT_FOUND));
+    }
+
+    private double getSuppressionRatio() {
+        double total = storedCounter.count() + suppressedCounter.count();
+        return total == 0 ? 0 : suppressedCounter.count() / total;
+    }
+
+    /**
+     * 폴링 응답 전체에 대한 ETag (학생별 version 과 이미지 포함 여부로 계산)
+     */
+    public String getETag(List<MonitoringImage> images) {
+        CRC32C crc = new CRC32C();
+        for (MonitoringImage image : images) {
+            String entry = image.getMemberId() + ":" + image.getVersion() + ":" + (image.getEncodedImageBase64() != null) + ";";
+            crc.update(entry.getBytes(StandardCharsets.UTF_8));
         }
+        return String.format("\"%08x%04x\"", crc.getValue(), images.size());
     }
 }
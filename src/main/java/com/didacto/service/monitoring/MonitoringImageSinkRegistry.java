@@ -0,0 +1,144 @@
+package com.didacto.service.monitoring;
+
+import com.didacto.config.rabbitmq.MonitoringEventTopology;
+import com.didacto.dto.monitoring.MonitoringImageEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 강의별 이벤트 스트림(Sink) 관리
+ * 첫 구독 시 강의의 Sink 를 생성하고, 마지막 구독자가 떠나면 제거한다.
+ * 이벤트는 해당 강의의 Sink 로만 전달되므로 이벤트 당 비용은 해당 강의의 구독자 수에만 비례한다.
+ * Sink 의 생성/제거 시점에 맞춰 인스턴스 Queue 의 강의 바인딩도 추가/제거한다.
+ * 바인딩 변경(브로커 호출)은 공용 작업 풀(applicationTaskExecutor)에서 요청 순서대로 하나씩 실행하여,
+ * Map 잠금이나 리스너/구독 해제 스레드를 점유하지 않는다.
+ */
+@Component
+@Slf4j
+public class MonitoringImageSinkRegistry {
+
+    private final MonitoringEventTopology topology;
+
+    private static final Duration EMIT_RETRY_DURATION = Duration.ofMillis(100);
+
+    private final Map<Long, LectureSink> sinks = new ConcurrentHashMap<>();
+
+    private final TaskExecutor taskExecutor;
+    // 마지막으로 제출한 바인딩 작업 (다음 작업은 이전 작업이 끝난 뒤 실행되므로 강의별 바인딩/해제 순서는 제출 순서로 보장)
+    private CompletableFuture<Void> lastBinding = CompletableFuture.completedFuture(null);
+    private final ReentrantLock bindingLock = new ReentrantLock();
+
+    public MonitoringImageSinkRegistry(MonitoringEventTopology topology,
+                                       @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                                       TaskExecutor taskExecutor) {
+        this.topology = topology;
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * 강의 스트림 구독 (구독 시점에 Sink 를 생성하거나 구독자 수를 증가)
+     */
+    public Flux<MonitoringImageEvent> subscribe(Long lectureId) {
+        return Flux.defer(() -> {
+            // compute 내부에서는 바인딩 작업 제출만 하여 해제 작업과의 순서만 보장
+            LectureSink lectureSink = sinks.compute(lectureId, (id, current) -> {
+                LectureSink target = current;
+                if (target == null) {
+                    target = new LectureSink(submitBinding(() -> topology.bindLecture(lectureId)));
+                }
+                target.subscribers++;
+                return target;
+            });
+            // 구독 스레드에서 바인딩 완료를 기다린 뒤 이벤트 수신 시작 (Map 잠금은 이미 해제된 상태)
+            try {
+                lectureSink.bound.join();
+            }
+            catch (CompletionException e) {
+                release(lectureId, lectureSink);
+                return Flux.error(e.getCause());
+            }
+            return lectureSink.sink.asFlux()
+                    .doFinally(signal -> release(lectureId, lectureSink));
+        });
+    }
+
+    /**
+     * 이벤트를 해당 강의의 Sink 로 전달 (구독자가 없는 강의의 이벤트는 버림)
+     */
+    public void emit(MonitoringImageEvent event) {
+        LectureSink lectureSink = sinks.get(event.getLectureId());
+        if (lectureSink == null) {
+            return;
+        }
+        // 여러 리스너 스레드에서 동시에 emit 할 수 있으므로 직렬화 실패 시 잠시 재시도
+        lectureSink.sink.emitNext(event, Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY_DURATION));
+    }
+
+    /**
+     * 강의의 현재 구독자 수
+     */
+    public int getSubscriberCount(Long lectureId) {
+        LectureSink lectureSink = sinks.get(lectureId);
+        return lectureSink == null ? 0 : lectureSink.subscribers;
+    }
+
+    private void release(Long lectureId, LectureSink lectureSink) {
+        sinks.computeIfPresent(lectureId, (id, current) -> {
+            if (current != lectureSink) {
+                return current;
+            }
+            if (--current.subscribers > 0) {
+                return current;
+            }
+            log.debug("lecture{} sink removed", lectureId);
+            current.sink.tryEmitComplete();
+            submitBinding(() -> {
+                try {
+                    topology.unbindLecture(lectureId);
+                }
+                catch (Exception e) {
+                    log.warn("lecture{} unbind fail", lectureId, e);
+                }
+            });
+            return null;
+        });
+    }
+
+    // 이전 바인딩 작업이 끝난 뒤(실패 포함) 실행되도록 이어서 제출
+    private CompletableFuture<Void> submitBinding(Runnable task) {
+        bindingLock.lock();
+        try {
+            lastBinding = lastBinding.handle((result, e) -> null).thenRunAsync(task, taskExecutor);
+            return lastBinding;
+        }
+        finally {
+            bindingLock.unlock();
+        }
+    }
+
+    private static class LectureSink {
+        // 공유 버퍼 없이 준비된 구독자에게만 전달 (느린 구독자가 다른 구독자를 막거나 버퍼를 키우지 않음)
+        // 구독자별 보관은 LatestFrameConflator 가 담당하며, Sink 제거 시점은 구독자 수로 직접 관리
+        private final Sinks.Many<MonitoringImageEvent> sink = Sinks.many().multicast().directBestEffort();
+        // 강의 바인딩 완료 시점
+        private final CompletableFuture<Void> bound;
+        // sinks.compute 내부에서만 변경
+        private volatile int subscribers;
+
+        private LectureSink(CompletableFuture<Void> bound) {
+            this.bound = bound;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.didacto.service.monitoring;
+
+import com.didacto.common.ErrorDefineCode;
+import com.didacto.config.exception.custom.BasicCustomException500;
+import com.didacto.config.exception.custom.exception.ForbiddenException403;
+import com.didacto.dto.monitoring.MonitoringPresence;
+import com.didacto.infra.redis.MonitoringImageRedisRepository;
+import com.didacto.infra.redis.MonitoringSessionRedisRepository;
+import com.didacto.service.lecture.LectureQueryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 강의별 모니터링 세션(접속 중인 학생) 관리
+ * 학생은 마지막 업로드 시 안내한 다음 업로드 주기에 offline-grace 를 더한 시각까지 접속 중으로 보며,
+ * 이미지가 유지되는 동안(MONITORING_IMAGE_EXPIRE_TIME)은 미접속 상태로 목록에 남긴다.
+ * (접속 기준 시각은 이미지 저장 시 함께 기록되므로, 업로드 주기가 늘어나도 접속 상태가 흔들리지 않는다.)
+ * 교수자의 조회(구독/폴링)와 확대 중인 학생도 함께 기록하여 업로드 주기 계산에 사용한다.
+ * 확대 지정/해제와 접속 상태 조회는 강의 소유자(교수자)만 가능하다.
+ */
+@Service
+@Slf4j
+public class MonitoringSessionService {
+    private final MonitoringSessionRedisRepository monitoringSessionRedisRepository;
+    private final MonitoringImageRedisRepository monitoringImageRedisRepository;
+    private final LectureQueryService lectureQueryService;
+    private final long focusTimeoutMillis;
+    private final long watchedTimeoutMillis;
+
+    // 강의별 마지막 조회 표시 시각 (watched-timeout 의 1/3 주기로만 Redis 에 기록)
+    private final Map<Long, Long> watchedMarkedAt = new ConcurrentHashMap<>();
+
+    public MonitoringSessionService(MonitoringSessionRedisRepository monitoringSessionRedisRepository,
+                                    MonitoringImageRedisRepository monitoringImageRedisRepository,
+                                    LectureQueryService lectureQueryService,
+                                    @Value("${monitoring.session.focus-timeout-ms:30000}") long focusTimeoutMillis,
+                                    @Value("${monitoring.session.watched-timeout-ms:15000}") long watchedTimeoutMillis) {
+        this.monitoringSessionRedisRepository = monitoringSessionRedisRepository;
+        this.monitoringImageRedisRepository = monitoringImageRedisRepository;
+        this.lectureQueryService = lectureQueryService;
+        this.focusTimeoutMillis = focusTimeoutMillis;
+        this.watchedTimeoutMillis = watchedTimeoutMillis;
+    }
+
+    /**
+     * 학생 세션 종료 (업로드 연결이 닫힌 경우 다음 업로드 예정 시각을 기다리지 않고 미접속으로 표시)
+     */
+    public void leave(long lectureId, long memberId) {
+        monitoringImageRedisRepository.removePresence(lectureId, memberId);
+    }
+    /**
+     * 교수자가 확대하여 보고 있는 학생 지정 (focus-timeout 이후 자동 해제, 확대 중에는 주기적으로 다시 요청)
+     */
+    public void focus(long lectureId, long memberId, long tutorId) {
+        validateOwner(lectureId, tutorId);
+        monitoringSessionRedisRepository.setFocus(lectureId, memberId, focusTimeoutMillis);
+    }
+
+    public void clearFocus(long lectureId, long tutorId) {
+        validateOwner(lectureId, tutorId);
+        monitoringSessionRedisRepository.removeFocus(lectureId);
+    }
+
+    /**
+     * 교수자가 강의를 조회 중임을 표시 (스트림 구독/폴링 시 호출, 인스턴스 내에서는 일정 주기로만 기록)
+     */
+    public void markWatched(long lectureId) {
+        long now = System.currentTimeMillis();
+        Long markedAt = watchedMarkedAt.get(lectureId);
+        if (markedAt != null && now - markedAt < watchedTimeoutMillis / 3) {
+            return;
+        }
+        watchedMarkedAt.put(lectureId, now);
+        try {
+            monitoringSessionRedisRepository.setWatched(lectureId, watchedTimeoutMillis);
+        }
+        catch (BasicCustomException500 e) {
+            // 조회 표시는 업로드 주기 계산에만 쓰이므로 실패해도 조회/스트림은 계속 진행
+            log.warn("monitoring watched mark fail: lecture{}", lectureId);
+        }
+        // 오래된 강의 기록 정리
+        watchedMarkedAt.values().removeIf(at -> now - at >= watchedTimeoutMillis);
+    }
+
+    /**
+     * 강의의 학생별 접속 상태 (학생 번호 순)
+     */
+    public List<MonitoringPresence> getPresences(long lectureId, long tutorId) {
+        validateOwner(lectureId, tutorId);
+        return monitoringImageRedisRepository.findPresences(lectureId).stream()
+                .sorted(Comparator.comparing(MonitoringPresence::getMemberId))
+                .toList();
+    }
+
+    /**
+     * 학생 한 명의 접속 상태 (세션이 없으면 미접속, lastSeenAt 은 null)
+     */
+    public MonitoringPresence getPresence(long lectureId, long memberId, long tutorId) {
+        validateOwner(lectureId, tutorId);
+        return monitoringImageRedisRepository.findPresence(lectureId, memberId)
+                .orElseGet(() -> new MonitoringPresence(lectureId, memberId, false, null));
+    }
+
+    // 강의 소유자가 아니면 403 (강의가 없으면 404)
+    private void validateOwner(long lectureId, long tutorId) {
+        if (!lectureQueryService.queryOne(lectureId).getOwner().getId().equals(tutorId)) {
+            throw new ForbiddenException403(ErrorDefineCode.AUTHORIZATION_FAIL);
+        }
+    }
+}
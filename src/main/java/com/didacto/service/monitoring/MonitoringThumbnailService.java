@@ -0,0 +1,148 @@
+package com.didacto.service.monitoring;
+
+import com.didacto.common.util.ImageThumbnailUtil;
+import com.didacto.dto.monitoring.MonitoringImageEvent;
+import com.didacto.dto.monitoring.MonitoringImageResolution;
+import com.didacto.infra.redis.MonitoringImageRedisRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 업로드된 화면 이미지의 축소본(썸네일) 생성
+ * 크기가 제한된 작업 풀에서 처리하며, 풀이 가득 차면 학생별 최신 이미지만 대기 목록에 남겨 두고
+ * 진행 중인 작업이 끝날 때 다시 제출한다. (같은 학생의 이전 대기 이미지는 교체)
+ * 썸네일이 없는 동안 THUMB 조회는 원본 이미지를 "{version}:full" 버전으로 대체하므로, 생성된 썸네일은 변경분으로 다시 전달된다.
+ */
+@Service
+@Slf4j
+public class MonitoringThumbnailService {
+
+    private final MonitoringImageRedisRepository monitoringImageRedisRepository;
+    private final MonitoringImageEventService monitoringImageEventService;
+    private final MonitoringFrameNearCache monitoringFrameNearCache;
+    private final ThreadPoolTaskExecutor executor;
+    private final int width;
+    private final float quality;
+    private final long maxPixels;
+
+    // 풀이 가득 차 제출하지 못한 학생별 최신 이미지 (lectureId, memberId 단위로 교체)
+    private final Map<PendingKey, PendingThumbnail> pending = new ConcurrentHashMap<>();
+
+    private final Counter generatedCounter;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    public MonitoringThumbnailService(MonitoringImageRedisRepository monitoringImageRedisRepository,
+                                      MonitoringImageEventService monitoringImageEventService,
+                                      MonitoringFrameNearCache monitoringFrameNearCache,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${monitoring.thumbnail.width:320}") int width,
+                                      @Value("${monitoring.thumbnail.quality:0.6}") float quality,
+                                      @Value("${monitoring.thumbnail.pool-size:2}") int poolSize,
+                                      @Value("${monitoring.thumbnail.queue-capacity:64}") int queueCapacity,
+                                      @Value("${monitoring.thumbnail.max-pixels:16777216}") long maxPixels) {
+        this.monitoringImageRedisRepository = monitoringImageRedisRepository;
+        this.monitoringImageEventService = monitoringImageEventService;
+        this.monitoringFrameNearCache = monitoringFrameNearCache;
+        this.width = width;
+        this.quality = quality;
+        this.maxPixels = maxPixels;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(poolSize);
+        this.executor.setMaxPoolSize(poolSize);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("monitoring-thumbnail-");
+        this.executor.initialize();
+
+        this.generatedCounter = meterRegistry.counter("monitoring.thumbnail", "result", "generated");
+        this.rejectedCounter = meterRegistry.counter("monitoring.thumbnail", "result", "rejected");
+        this.failedCounter = meterRegistry.counter("monitoring.thumbnail", "result", "failed");
+        meterRegistry.gaugeMapSize("monitoring.thumbnail.pending", Tags.empty(), pending);
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 썸네일 생성 요청 (비동기)
+     * @param version 원본 이미지의 버전, 생성 도중 새 이미지가 업로드되면 저장하지 않음
+     * @param uploadedAt 원본 이미지의 업로드 시각 (내부 캐시 반영 시 선후 판단용)
+     */
+    public void generate(long lectureId, long memberId, byte[] image, String version, long uploadedAt) {
+        PendingKey key = new PendingKey(lectureId, memberId);
+        // 이전에 밀려난 이미지는 새 이미지로 대체됨
+        pending.remove(key);
+        submit(key, new PendingThumbnail(image, version, uploadedAt));
+    }
+
+    private void submit(PendingKey key, PendingThumbnail thumbnail) {
+        try {
+            executor.execute(() -> {
+                try {
+                    createThumbnail(key.lectureId, key.memberId, thumbnail.image, thumbnail.version, thumbnail.uploadedAt);
+                }
+                finally {
+                    resubmitPending();
+                }
+            });
+        }
+        catch (TaskRejectedException e) {
+            rejectedCounter.increment();
+            // 그 사이 같은 학생의 새 이미지가 대기 목록에 들어왔으면 새 이미지를 유지
+            pending.putIfAbsent(key, thumbnail);
+            log.debug("thumbnail deferred: lecture{} member{}", key.lectureId, key.memberId);
+            // 보관하기 직전에 모든 작업이 끝났다면 다시 제출해 줄 작업이 없으므로 직접 제출
+            if (executor.getActiveCount() == 0 && !executor.getThreadPoolExecutor().isShutdown()) {
+                resubmitPending();
+            }
+        }
+    }
+
+    // 작업 하나가 끝날 때마다 대기 목록에서 하나를 꺼내 다시 제출
+    private void resubmitPending() {
+        Iterator<Map.Entry<PendingKey, PendingThumbnail>> iterator = pending.entrySet().iterator();
+        if (!iterator.hasNext()) {
+            return;
+        }
+        Map.Entry<PendingKey, PendingThumbnail> next = iterator.next();
+        if (pending.remove(next.getKey(), next.getValue())) {
+            submit(next.getKey(), next.getValue());
+        }
+    }
+
+    void createThumbnail(long lectureId, long memberId, byte[] image, String version, long uploadedAt) {
+        try {
+            byte[] thumbnail = ImageThumbnailUtil.resize(image, width, quality, maxPixels);
+            if (monitoringImageRedisRepository.saveThumbnail(lectureId, memberId, thumbnail, version)) {
+                generatedCounter.increment();
+                monitoringFrameNearCache.update(lectureId, memberId, MonitoringImageResolution.THUMB, version, uploadedAt, thumbnail);
+                monitoringImageEventService.pushEvent(
+                        MonitoringImageEvent.createThumbnailEvent(lectureId, memberId, thumbnail));
+            }
+        }
+        catch (Exception e) {
+            failedCounter.increment();
+            log.warn("thumbnail create fail: lecture{} member{}", lectureId, memberId, e);
+        }
+    }
+
+    private record PendingKey(long lectureId, long memberId) {
+    }
+
+    private record PendingThumbnail(byte[] image, String version, long uploadedAt) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.didacto.service.monitoring;
+
+import com.didacto.dto.monitoring.MonitoringUploadIntervals;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+
+/**
+ * 학생 화면 업로드 주기 계산 (업로드 응답으로 다음 업로드까지의 대기 시간을 전달)
+ * - 교수자가 확대하여 보고 있는 학생 : focus-interval
+ * - 교수자가 조회 중인 강의 : base-interval
+ * - 조회 중인 교수자가 없는 강의 : idle-interval
+ * 위 주기에 인스턴스 부하(CPU, 힙 사용률, Redis 응답 시간)에 따른 배율(최대 max-backoff)을 곱한 후보를 이미지 저장 시 함께 전달하고,
+ * 저장소가 업로드 시점의 강의 조회 상태에 따라 선택한다. (이 인스턴스에 스트림 구독자가 있으면 idle 후보도 base-interval)
+ */
+@Service
+public class MonitoringUploadRateService {
+    private final MonitoringImageSinkRegistry sinkRegistry;
+
+    private final long focusIntervalMillis;
+    private final long baseIntervalMillis;
+    private final long idleIntervalMillis;
+    private final double maxBackoff;
+    private final long offlineGraceMillis;
+
+    private final OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final int processors = Runtime.getRuntime().availableProcessors();
+
+    // 부하는 업로드마다 계산하지 않고 일정 주기로만 다시 측정
+    private static final long PRESSURE_SAMPLE_INTERVAL = 1000L;
+    private volatile double pressure;
+    private volatile long pressureSampledAt = Long.MIN_VALUE;
+    // 이미지 저장 응답 시간의 지수 이동 평균(ms)
+    private volatile double redisLatencyMillis;
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    // 부하 배율이 적용되기 시작하는 값과 최대 배율이 되는 값
+    private static final double CPU_LOW = 0.7, CPU_HIGH = 1.0;
+    private static final double HEAP_LOW = 0.7, HEAP_HIGH = 0.95;
+    private static final double REDIS_LATENCY_LOW = 5, REDIS_LATENCY_HIGH = 50;
+
+    private final DistributionSummary intervalSummary;
+
+    public MonitoringUploadRateService(MonitoringImageSinkRegistry sinkRegistry,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${monitoring.upload-rate.focus-interval-ms:250}") long focusIntervalMillis,
+                                       @Value("${monitoring.upload-rate.base-interval-ms:1000}") long baseIntervalMillis,
+                                       @Value("${monitoring.upload-rate.idle-interval-ms:5000}") long idleIntervalMillis,
+                                       @Value("${monitoring.upload-rate.max-backoff:4}") double maxBackoff,
+                                       @Value("${monitoring.session.offline-grace-ms:3000}") long offlineGraceMillis) {
+        this.sinkRegistry = sinkRegistry;
+        this.focusIntervalMillis = focusIntervalMillis;
+        this.baseIntervalMillis = baseIntervalMillis;
+        this.idleIntervalMillis = idleIntervalMillis;
+        this.maxBackoff = maxBackoff;
+        this.offlineGraceMillis = offlineGraceMillis;
+        this.intervalSummary = DistributionSummary.builder("monitoring.upload.interval")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("monitoring.upload.pressure", this, service -> service.pressure)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 강의의 다음 업로드 주기 후보(ms) (이미지 저장 시 강의 조회 상태에 따라 하나가 선택됨)
+     */
+    public MonitoringUploadIntervals getIntervals(long lectureId) {
+        double backoff = 1 + (maxBackoff - 1) * currentPressure();
+        long idleInterval = sinkRegistry.getSubscriberCount(lectureId) > 0 ? baseIntervalMillis : idleIntervalMillis;
+        return new MonitoringUploadIntervals(
+                Math.round(focusIntervalMillis * backoff),
+                Math.round(baseIntervalMillis * backoff),
+                Math.round(idleInterval * backoff),
+                offlineGraceMillis);
+    }
+
+    /**
+     * 학생에게 전달한 업로드 주기와 이미지 저장에 걸린 시간 기록
+     */
+    public void record(long interval, long saveNanos) {
+        intervalSummary.record(interval);
+        // 동시에 갱신되어 일부 값이 누락되어도 평균에는 영향이 작으므로 잠금 없이 갱신
+        redisLatencyMillis += (saveNanos / 1_000_000.0 - redisLatencyMillis) * LATENCY_SMOOTHING;
+    }
+
+    // 0(여유) ~ 1(과부하), 가장 높은 항목 기준
+    double currentPressure() {
+        long now = System.currentTimeMillis();
+        if (now - pressureSampledAt >= PRESSURE_SAMPLE_INTERVAL) {
+            pressureSampledAt = now;
+            pressure = Math.max(cpuPressure(), Math.max(heapPressure(),
+                    scale(redisLatencyMillis, REDIS_LATENCY_LOW, REDIS_LATENCY_HIGH)));
+        }
+        return pressure;
+    }
+
+    private double cpuPressure() {
+        // 최근 1분 평균 부하를 코어 수로 나눈 값 (지원하지 않는 환경이면 음수)
+        double load = operatingSystem.getSystemLoadAverage();
+        return load < 0 ? 0 : scale(load / processors, CPU_LOW, CPU_HIGH);
+    }
+
+    private double heapPressure() {
+        MemoryUsage heap = memory.getHeapMemoryUsage();
+        return heap.getMax() <= 0 ? 0 : scale((double) heap.getUsed() / heap.getMax(), HEAP_LOW, HEAP_HIGH);
+    }
+
+    private static double scale(double value, double low, double high) {
+        return Math.min(1, Math.max(0, (value - low) / (high - low)));
+    }
+}
@@ -0,0 +1,113 @@
+package com.didacto.config.rabbitmq;
+
+import com.didacto.dto.monitoring.MonitoringImageEvent;
+import com.didacto.dto.monitoring.MonitoringImageResolution;
+import com.didacto.dto.monitoring.SSEType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MonitoringImageEventMessageConverterTest {
+
+    Jackson2JsonMessageConverter jsonConverter = new Jackson2JsonMessageConverter();
+    MonitoringImageEventMessageConverter converter = new MonitoringImageEventMessageConverter(jsonConverter);
+
+    @DisplayName("이미지 이벤트는 고정 헤더와 원본 바이트로 변환되고, 다시 같은 이벤트로 복원된다.")
+    @Test
+    void binaryRoundTrip() {
+        // given
+        byte[] image = {(byte) 0xFF, (byte) 0xD8, 0x01, 0x02, 0x03};
+        MonitoringImageEvent event = MonitoringImageEvent.createDataEvent(1L, 2L, image, "v1", 1000L);
+
+        // when
+        Message message = converter.toMessage(event, new MessageProperties());
+        MonitoringImageEvent result = (MonitoringImageEvent) converter.fromMessage(message);
+
+        // then
+        assertThat(message.getBody()).hasSize(MonitoringImageEventMessageConverter.HEADER_SIZE + "v1".length() + image.length);
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo(MonitoringImageEventMessageConverter.CONTENT_TYPE);
+        assertThat(result.getType()).isEqualTo(SSEType.DATA);
+        assertThat(result.getLectureId()).isEqualTo(1L);
+        assertThat(result.getMemberId()).isEqualTo(2L);
+        assertThat(result.getTutorId()).isNull();
+        assertThat(result.getResolution()).isEqualTo(MonitoringImageResolution.FULL);
+        assertThat(result.getVersion()).isEqualTo("v1");
+        assertThat(result.getUploadedAt()).isEqualTo(1000L);
+        assertThat(result.getImage()).isEqualTo(image);
+    }
+
+    @DisplayName("이전 형식의 바이너리 메세지는 version 과 업로드 시각 없이 복원한다.")
+    @Test
+    void binaryFormatV1() {
+        // given
+        byte[] image = {(byte) 0xFF, (byte) 0xD8};
+        ByteBuffer body = ByteBuffer.allocate(1 + 1 + 1 + 8 + 8 + 8 + 4 + image.length)
+                .put((byte) 1)
+                .put((byte) SSEType.DATA.ordinal())
+                .put((byte) 0b11)
+                .putLong(1L)
+                .putLong(2L)
+                .putLong(0L)
+                .putInt(image.length)
+                .put(image);
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MonitoringImageEventMessageConverter.CONTENT_TYPE);
+
+        // when
+        MonitoringImageEvent result = (MonitoringImageEvent) converter.fromMessage(new Message(body.array(), properties));
+
+        // then
+        assertThat(result.getMemberId()).isEqualTo(2L);
+        assertThat(result.getVersion()).isNull();
+        assertThat(result.getUploadedAt()).isNull();
+        assertThat(result.getImage()).isEqualTo(image);
+    }
+
+    @DisplayName("썸네일 이벤트는 해상도 정보를 유지한다.")
+    @Test
+    void binaryRoundTripThumbnail() {
+        // given
+        MonitoringImageEvent event = MonitoringImageEvent.createThumbnailEvent(1L, 2L, new byte[]{(byte) 0xFF, (byte) 0xD8});
+
+        // when
+        MonitoringImageEvent result = (MonitoringImageEvent) converter.fromMessage(converter.toMessage(event, new MessageProperties()));
+
+        // then
+        assertThat(result.getResolution()).isEqualTo(MonitoringImageResolution.THUMB);
+        assertThat(result.getMemberId()).isEqualTo(2L);
+    }
+
+    @DisplayName("이미지가 없는 이벤트도 변환할 수 있다.")
+    @Test
+    void binaryRoundTripWithoutImage() {
+        // when
+        Message message = converter.toMessage(MonitoringImageEvent.createInitEvent(), new MessageProperties());
+        MonitoringImageEvent result = (MonitoringImageEvent) converter.fromMessage(message);
+
+        // then
+        assertThat(result.getType()).isEqualTo(SSEType.INIT);
+        assertThat(result.getLectureId()).isNull();
+        assertThat(result.getImage()).isNull();
+    }
+
+    @DisplayName("이전 형식의 JSON 메세지는 JSON 변환기로 복원한다.")
+    @Test
+    void fallbackToJson() {
+        // given
+        byte[] image = {(byte) 0xFF, (byte) 0xD8};
+        Message message = jsonConverter.toMessage(MonitoringImageEvent.createDataEvent(1L, 2L, image), new MessageProperties());
+
+        // when
+        MonitoringImageEvent result = (MonitoringImageEvent) converter.fromMessage(message);
+
+        // then
+        assertThat(result.getMemberId()).isEqualTo(2L);
+        assertThat(result.getImage()).isEqualTo(image);
+    }
+}
@@ -0,0 +1,75 @@
+package com.didacto.config.security.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtAuthenticationCacheTest {
+
+    JwtAuthenticationCache cache = new JwtAuthenticationCache(2, new SimpleMeterRegistry());
+
+    Authentication authentication = new UsernamePasswordAuthenticationToken(
+            "user", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+    @DisplayName("서명이 같아도 토큰 전체가 다르면 캐시된 인증 정보를 반환하지 않는다.")
+    @Test
+    void compareWholeToken() {
+        // given
+        cache.put("header.payload.signature", authentication, System.currentTimeMillis() + 60_000);
+
+        // when, then
+        assertThat(cache.get("header.payload.signature").getPrincipal()).isEqualTo("user");
+        assertThat(cache.get("header.forged.signature")).isNull();
+    }
+
+    @DisplayName("요청마다 새 인증 정보를 반환하여, 한 요청에서 변경해도 다른 요청에 영향이 없다.")
+    @Test
+    void freshAuthenticationPerRequest() {
+        // given
+        cache.put("header.payload.signature", authentication, System.currentTimeMillis() + 60_000);
+        Authentication first = cache.get("header.payload.signature");
+
+        // when
+        first.setAuthenticated(false);
+        Authentication second = cache.get("header.payload.signature");
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.isAuthenticated()).isTrue();
+        assertThat(second.getPrincipal()).isEqualTo("user");
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @DisplayName("만료 시각이 지난 토큰은 캐시에서 제거한다.")
+    @Test
+    void expiredToken() {
+        // given
+        cache.put("header.payload.signature", authentication, System.currentTimeMillis() - 1);
+
+        // when, then
+        assertThat(cache.get("header.payload.signature")).isNull();
+    }
+
+    @DisplayName("최대 개수를 넘으면 기존 항목을 제거하여 크기를 유지한다.")
+    @Test
+    void bounded() {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        // when
+        cache.put("h.p.a", authentication, expiresAt);
+        cache.put("h.p.b", authentication, expiresAt);
+        cache.put("h.p.c", authentication, expiresAt);
+
+        // then
+        assertThat(cache.get("h.p.c")).isNotNull();
+        assertThat(cache.get("h.p.a") == null || cache.get("h.p.b") == null).isTrue();
+    }
+}
@@ -0,0 +1,106 @@
+package com.didacto.config.websocket;
+
+import com.didacto.config.security.custom.CustomUser;
+import com.didacto.config.security.custom.CustomUserDetails;
+import com.didacto.config.security.jwt.TokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class MonitoringHandshakeInterceptorTest {
+
+    @Mock
+    TokenProvider tokenProvider;
+
+    MonitoringHandshakeInterceptor interceptor;
+
+    @BeforeEach
+    void beforeEach() {
+        interceptor = new MonitoringHandshakeInterceptor(tokenProvider);
+    }
+
+    @SuppressWarnings("unchecked")
+    @DisplayName("유효한 Access Token 이면 memberId 와 lectureId 를 세션 속성으로 저장한다.")
+    @Test
+    void handshakeWithValidToken() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", MonitoringWebSocketConfig.UPLOAD_PATH);
+        request.setQueryString("lectureId=1");
+        request.addHeader("Sec-WebSocket-Protocol", "access_token, token");
+        CustomUserDetails principal = new CustomUserDetails(new CustomUser(2L, "student@didacto.com", null, null, null));
+        Claims claims = mock(Claims.class);
+        Jws<Claims> jws = mock(Jws.class);
+        given(jws.getBody()).willReturn(claims);
+        given(tokenProvider.parseAccessToken("token")).willReturn(Optional.of(jws));
+        given(tokenProvider.getAuthentication(claims))
+                .willReturn(new UsernamePasswordAuthenticationToken(principal, "", List.of()));
+        Map<String, Object> attributes = new HashMap<>();
+
+        // when
+        boolean result = interceptor.beforeHandshake(new ServletServerHttpRequest(request),
+                new ServletServerHttpResponse(new MockHttpServletResponse()), null, attributes);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(attributes)
+                .containsEntry(MonitoringHandshakeInterceptor.MEMBER_ID_ATTRIBUTE, 2L)
+                .containsEntry(MonitoringHandshakeInterceptor.LECTURE_ID_ATTRIBUTE, 1L);
+    }
+
+    @DisplayName("URL 파라미터로 전달한 토큰은 사용하지 않는다.")
+    @Test
+    void ignoreQueryParameterToken() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", MonitoringWebSocketConfig.UPLOAD_PATH);
+        request.setQueryString("lectureId=1&access_token=token");
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        // when
+        boolean result = interceptor.beforeHandshake(new ServletServerHttpRequest(request),
+                new ServletServerHttpResponse(servletResponse), null, new HashMap<>());
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(servletResponse.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @DisplayName("토큰이 유효하지 않으면 401 로 핸드셰이크를 거절한다.")
+    @Test
+    void rejectInvalidToken() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", MonitoringWebSocketConfig.UPLOAD_PATH);
+        request.setQueryString("lectureId=1");
+        request.addHeader("Authorization", "Bearer invalid");
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        given(tokenProvider.parseAccessToken("invalid")).willReturn(Optional.empty());
+
+        // when
+        boolean result = interceptor.beforeHandshake(new ServletServerHttpRequest(request),
+                new ServletServerHttpResponse(servletResponse), null, new HashMap<>());
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(servletResponse.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+}
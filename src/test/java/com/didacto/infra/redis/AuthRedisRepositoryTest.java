@@ -0,0 +1,85 @@
+package com.didacto.infra.redis;
+
+import com.didacto.common.util.TokenDigestUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AuthRedisRepositoryTest {
+
+    @Autowired
+    AuthRedisRepository authRedisRepository;
+
+    @Autowired
+    RedisTemplate<String, byte[]> authRedisTemplate;
+
+    @AfterEach
+    void afterEach() {
+        authRedisTemplate.delete(AuthRedisRepository.REFRESH_KEY);
+    }
+
+    @DisplayName("Refresh Token 은 만료 시각(8바이트)과 SHA-256(32바이트)으로 저장하고, 같은 토큰만 유효하다.")
+    @Test
+    void saveDigest() {
+        // given
+        long now = System.currentTimeMillis();
+
+        // when
+        authRedisRepository.setRefreshAuthenticationInfo(1L, "refresh-token");
+
+        // then
+        byte[] entry = (byte[]) authRedisTemplate.opsForHash().get(AuthRedisRepository.REFRESH_KEY, "1");
+        assertThat(entry).hasSize(40);
+        assertThat(ByteBuffer.wrap(entry).getLong()).isGreaterThan(now);
+        assertThat(Arrays.copyOfRange(entry, 8, 40)).isEqualTo(TokenDigestUtil.sha256("refresh-token"));
+        assertThat(authRedisRepository.validateRefreshToken(1L, "refresh-token")).isTrue();
+        assertThat(authRedisRepository.validateRefreshToken(1L, "other-token")).isFalse();
+    }
+
+    @DisplayName("만료된 Refresh Token 은 유효하지 않으며 조회 시 제거한다.")
+    @Test
+    void expiredToken() {
+        // given
+        authRedisTemplate.opsForHash().put(AuthRedisRepository.REFRESH_KEY, "2",
+                entry(System.currentTimeMillis() - 1, "refresh-token"));
+
+        // when
+        boolean valid = authRedisRepository.validateRefreshToken(2L, "refresh-token");
+
+        // then
+        assertThat(valid).isFalse();
+        assertThat(authRedisTemplate.opsForHash().hasKey(AuthRedisRepository.REFRESH_KEY, "2")).isFalse();
+    }
+
+    @DisplayName("정리 작업은 만료된 토큰만 제거한다.")
+    @Test
+    void sweepExpired() {
+        // given
+        long now = System.currentTimeMillis();
+        authRedisTemplate.opsForHash().put(AuthRedisRepository.REFRESH_KEY, "3", entry(now - 1, "expired-1"));
+        authRedisTemplate.opsForHash().put(AuthRedisRepository.REFRESH_KEY, "4", entry(now - 1, "expired-2"));
+        authRedisTemplate.opsForHash().put(AuthRedisRepository.REFRESH_KEY, "5", entry(now + 60_000, "valid"));
+
+        // when
+        long removed = authRedisRepository.sweepExpired();
+
+        // then
+        assertThat(removed).isEqualTo(2);
+        assertThat(authRedisTemplate.opsForHash().keys(AuthRedisRepository.REFRESH_KEY)).containsExactly("5");
+    }
+
+    private static byte[] entry(long expiresAt, String token) {
+        return ByteBuffer.allocate(40).putLong(expiresAt).put(TokenDigestUtil.sha256(token)).array();
+    }
+}
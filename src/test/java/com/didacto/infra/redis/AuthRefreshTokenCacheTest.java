@@ -0,0 +1,37 @@
+package com.didacto.infra.redis;
+
+import com.didacto.common.util.TokenDigestUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthRefreshTokenCacheTest {
+
+    AuthRefreshTokenCache cache = new AuthRefreshTokenCache(60_000, 100);
+
+    @DisplayName("캐시된 토큰과 같은 토큰만 일치로 판단한다.")
+    @Test
+    void matches() {
+        // given
+        cache.put(1L, TokenDigestUtil.sha256("token"), cache.generation());
+
+        // when, then
+        assertThat(cache.matches(1L, TokenDigestUtil.sha256("token"))).isTrue();
+        assertThat(cache.matches(1L, TokenDigestUtil.sha256("other"))).isFalse();
+    }
+
+    @DisplayName("Redis 조회 도중 무효화되었으면 조회한 토큰을 캐시하지 않는다.")
+    @Test
+    void skipPutAfterInvalidation() {
+        // given
+        long generation = cache.generation();
+        cache.invalidate(1L);
+
+        // when
+        cache.put(1L, TokenDigestUtil.sha256("token"), generation);
+
+        // then
+        assertThat(cache.matches(1L, TokenDigestUtil.sha256("token"))).isFalse();
+    }
+}
@@ -68,6 +68,22 @@ class MemberRepositoryTest {
     }
 
 
+    @DisplayName("저장된 비밀번호가 그대로일 때만 새 비밀번호로 교체한다.")
+    @Test
+    void updatePasswordIfUnchanged() {
+        // given
+        Member member = memberRepository.saveAndFlush(CreateMember(null, "member10@naver.com", "old-hash", "멤버10", false));
+
+        // when
+        int stale = memberRepository.updatePasswordIfUnchanged(member.getId(), "other-hash", "new-hash");
+        int updated = memberRepository.updatePasswordIfUnchanged(member.getId(), "old-hash", "new-hash");
+
+        // then
+        assertThat(stale).isZero();
+        assertThat(updated).isEqualTo(1);
+        assertThat(memberRepository.findById(member.getId()).get().getPassword()).isEqualTo("new-hash");
+    }
+
     private Member CreateMember(Long id, String email, String password, String name, Boolean deleted){
         return Member.builder()
                 .id(id)
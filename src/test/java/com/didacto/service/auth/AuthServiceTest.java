@@ -16,7 +16,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
 
@@ -36,7 +35,7 @@ public class AuthServiceTest {
     MemberRepository memberRepository;
 
     @Mock
-    PasswordEncoder passwordEncoder;
+    PasswordHashExecutor passwordHashExecutor;
 
     @Mock
     TokenProvider tokenProvider;
@@ -48,7 +47,7 @@ public class AuthServiceTest {
 
     @BeforeEach
     void beforeEach() {
-        authService = new AuthService(memberRepository, passwordEncoder, tokenProvider, authRedisRepository);
+        authService = new AuthService(memberRepository, passwordHashExecutor, tokenProvider, authRedisRepository);
 
     }
 
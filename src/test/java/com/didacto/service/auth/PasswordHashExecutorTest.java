@@ -0,0 +1,63 @@
+package com.didacto.service.auth;
+
+import com.didacto.config.exception.custom.exception.TooManyRequestsException429;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class PasswordHashExecutorTest {
+
+    @DisplayName("해시 스레드와 대기열이 모두 사용 중이면 429 예외가 발생한다.")
+    @Test
+    void rejectWhenSaturated() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        given(passwordEncoder.matches(anyString(), anyString())).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return true;
+        });
+        PasswordHashExecutor passwordHashExecutor =
+                new PasswordHashExecutor(passwordEncoder, new SimpleMeterRegistry(), 1, 0, 5000);
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        caller.submit(() -> passwordHashExecutor.matches("password", "hash"));
+        started.await(1, TimeUnit.SECONDS);
+
+        // when // then
+        assertThatThrownBy(() -> passwordHashExecutor.matches("password", "hash"))
+                .isInstanceOf(TooManyRequestsException429.class);
+        release.countDown();
+        caller.shutdown();
+    }
+
+    @DisplayName("현재 strength 보다 낮은 cost 의 해시는 다시 저장 대상이다.")
+    @Test
+    void upgradeEncoding() {
+        // given
+        PasswordHashExecutor passwordHashExecutor =
+                new PasswordHashExecutor(new BCryptPasswordEncoder(12), new SimpleMeterRegistry(), 1, 1, 5000);
+        String weak = new BCryptPasswordEncoder(4).encode("password");
+
+        // when
+        boolean result = passwordHashExecutor.upgradeEncoding(weak);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(passwordHashExecutor.matches("password", weak)).isTrue();
+    }
+}
@@ -0,0 +1,81 @@
+package com.didacto.service.monitoring;
+
+import com.didacto.dto.monitoring.MonitoringImageEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class LatestFrameConflatorTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    Counter delivered = meterRegistry.counter("delivered");
+    Counter dropped = meterRegistry.counter("dropped");
+    LatestFrameConflator conflator = new LatestFrameConflator(delivered, dropped);
+
+    @DisplayName("요청하지 않은 동안 도착한 프레임은 학생별 최신 프레임만 남기고 버린다.")
+    @Test
+    void keepLatestFramePerMember() {
+        // given
+        Sinks.Many<MonitoringImageEvent> upstream = Sinks.many().multicast().directBestEffort();
+        ManualSubscriber subscriber = new ManualSubscriber();
+        conflator.conflate(upstream.asFlux()).subscribe(subscriber);
+
+        // when
+        upstream.tryEmitNext(MonitoringImageEvent.createDataEvent(1L, 10L, "first".getBytes()));
+        upstream.tryEmitNext(MonitoringImageEvent.createDataEvent(1L, 20L, "other".getBytes()));
+        upstream.tryEmitNext(MonitoringImageEvent.createDataEvent(1L, 10L, "second".getBytes()));
+        upstream.tryEmitNext(MonitoringImageEvent.createDataEvent(1L, 10L, "third".getBytes()));
+        subscriber.request(10);
+
+        // then
+        assertThat(subscriber.received)
+                .extracting(event -> event.getMemberId(), event -> new String(event.getImage()))
+                .containsExactly(
+                        tuple(10L, "third"),
+                        tuple(20L, "other")
+                );
+        assertThat(dropped.count()).isEqualTo(2);
+        assertThat(delivered.count()).isEqualTo(2);
+    }
+
+    @DisplayName("요청이 남아 있으면 프레임을 버리지 않고 바로 전달한다.")
+    @Test
+    void deliverImmediatelyWhenRequested() {
+        // given
+        Sinks.Many<MonitoringImageEvent> upstream = Sinks.many().multicast().directBestEffort();
+        ManualSubscriber subscriber = new ManualSubscriber();
+        conflator.conflate(upstream.asFlux()).subscribe(subscriber);
+        subscriber.request(Long.MAX_VALUE);
+
+        // when
+        upstream.tryEmitNext(MonitoringImageEvent.createDataEvent(1L, 10L, "first".getBytes()));
+        upstream.tryEmitNext(MonitoringImageEvent.createDataEvent(1L, 10L, "second".getBytes()));
+
+        // then
+        assertThat(subscriber.received).extracting(event -> new String(event.getImage())).containsExactly("first", "second");
+        assertThat(dropped.count()).isZero();
+    }
+
+    static class ManualSubscriber extends BaseSubscriber<MonitoringImageEvent> {
+        final List<MonitoringImageEvent> received = new ArrayList<>();
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+        }
+
+        @Override
+        protected void hookOnNext(MonitoringImageEvent value) {
+            received.add(value);
+        }
+    }
+}
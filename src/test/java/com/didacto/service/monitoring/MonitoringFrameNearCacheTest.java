@@ -0,0 +1,202 @@
+package com.didacto.service.monitoring;
+
+import com.didacto.dto.monitoring.MonitoringFrame;
+import com.didacto.dto.monitoring.MonitoringImageResolution;
+import com.didacto.infra.redis.MonitoringImageRedisRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MonitoringFrameNearCacheTest {
+
+    @Mock
+    MonitoringImageRedisRepository monitoringImageRedisRepository;
+
+    static final MonitoringImageResolution FULL = MonitoringImageResolution.FULL;
+    static final long ONLINE = Long.MAX_VALUE;
+
+    @DisplayName("갱신 주기 이내의 조회는 Redis 를 다시 읽지 않고, 그 사이 업로드된 이미지는 바로 반영한다.")
+    @Test
+    void serveFromCacheWithinInterval() {
+        // given
+        MonitoringFrameNearCache nearCache = new MonitoringFrameNearCache(
+                monitoringImageRedisRepository, new SimpleMeterRegistry(), 60_000, 1024, 60_000);
+        given(monitoringImageRedisRepository.findFrames(1L, Map.of(), FULL))
+                .willReturn(List.of(new MonitoringFrame(2L, "v1", "first".getBytes(), ONLINE)));
+
+        // when
+        frames(nearCache, 1L);
+        nearCache.update(1L, 2L, FULL, "v2", 2L, "second".getBytes());
+        List<MonitoringFrame> result = frames(nearCache, 1L);
+
+        // then
+        verify(monitoringImageRedisRepository, times(1)).findFrames(eq(1L), anyMap(), eq(FULL));
+        assertThat(result)
+                .extracting(MonitoringFrame::getVersion, frame -> new String(frame.getImage()))
+                .containsExactly(tuple("v2", "second"));
+    }
+
+    @DisplayName("보유한 이미지보다 먼저 업로드된 이미지는 늦게 도착해도 반영하지 않는다.")
+    @Test
+    void ignoreOlderUpdate() {
+        // given
+        MonitoringFrameNearCache nearCache = new MonitoringFrameNearCache(
+                monitoringImageRedisRepository, new SimpleMeterRegistry(), 60_000, 1024, 60_000);
+        given(monitoringImageRedisRepository.findFrames(1L, Map.of(), FULL))
+                .willReturn(List.of(new MonitoringFrame(2L, "v2", "second".getBytes(), ONLINE, 2_000L)));
+
+        // when
+        frames(nearCache, 1L);
+        nearCache.update(1L, 2L, FULL, "v1", 1_000L, "first".getBytes());
+        List<MonitoringFrame> stale = frames(nearCache, 1L);
+        nearCache.update(1L, 2L, FULL, "v3", 3_000L, "third".getBytes());
+        nearCache.update(1L, 2L, FULL, "v2", 2_000L, "second".getBytes());
+        List<MonitoringFrame> result = frames(nearCache, 1L);
+
+        // then
+        assertThat(stale).extracting(MonitoringFrame::getVersion).containsExactly("v2");
+        assertThat(result)
+                .extracting(MonitoringFrame::getVersion, frame -> new String(frame.getImage()))
+                .containsExactly(tuple("v3", "third"));
+    }
+
+    @DisplayName("갱신 시 보유한 버전을 전달하고, 변경되지 않은 이미지는 캐시된 내용을 유지한다.")
+    @Test
+    void refreshWithKnownVersions() {
+        // given
+        MonitoringFrameNearCache nearCache = new MonitoringFrameNearCache(
+                monitoringImageRedisRepository, new SimpleMeterRegistry(), 0, 1024, 60_000);
+        given(monitoringImageRedisRepository.findFrames(1L, Map.of(), FULL))
+                .willReturn(List.of(new MonitoringFrame(2L, "v1", "first".getBytes(), ONLINE)));
+        given(monitoringImageRedisRepository.findFrames(1L, Map.of(2L, "v1"), FULL))
+                .willReturn(List.of(new MonitoringFrame(2L, "v1", null, ONLINE)));
+
+        // when
+        frames(nearCache, 1L);
+        List<MonitoringFrame> result = frames(nearCache, 1L);
+
+        // then
+        assertThat(result)
+                .extracting(MonitoringFrame::getVersion, frame -> new String(frame.getImage()))
+                .containsExactly(tuple("v1", "first"));
+    }
+
+    @DisplayName("전체 크기를 넘으면 가장 오래 조회되지 않은 강의부터 제거한다.")
+    @Test
+    void evictLeastRecentlyUsedLecture() throws InterruptedException {
+        // given
+        MonitoringFrameNearCache nearCache = new MonitoringFrameNearCache(
+                monitoringImageRedisRepository, new SimpleMeterRegistry(), 60_000, 10, 60_000);
+        given(monitoringImageRedisRepository.findFrames(1L, Map.of(), FULL))
+                .willReturn(List.of(new MonitoringFrame(2L, "v1", new byte[8], ONLINE)));
+        given(monitoringImageRedisRepository.findFrames(3L, Map.of(), FULL))
+                .willReturn(List.of(new MonitoringFrame(4L, "v1", new byte[8], ONLINE)));
+
+        // when
+        frames(nearCache, 1L);
+        Thread.sleep(5);
+        frames(nearCache, 3L);
+        frames(nearCache, 1L);
+
+        // then
+        verify(monitoringImageRedisRepository, times(2)).findFrames(1L, Map.of(), FULL);
+        verify(monitoringImageRedisRepository, times(1)).findFrames(3L, Map.of(), FULL);
+    }
+
+    @DisplayName("Redis 갱신 중에는 다른 조회가 기다리지 않고 이전 스냅샷을 받는다.")
+    @Test
+    void serveStaleSnapshotWhileRefreshing() throws Exception {
+        // given
+        MonitoringFrameNearCache nearCache = new MonitoringFrameNearCache(
+                monitoringImageRedisRepository, new SimpleMeterRegistry(), 0, 1024, 60_000);
+        CountDownLatch refreshing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(monitoringImageRedisRepository.findFrames(1L, Map.of(), FULL))
+                .willReturn(List.of(new MonitoringFrame(2L, "v1", "first".getBytes(), ONLINE)));
+        given(monitoringImageRedisRepository.findFrames(1L, Map.of(2L, "v1"), FULL)).willAnswer(invocation -> {
+            refreshing.countDown();
+            release.await();
+            return List.of(new MonitoringFrame(2L, "v2", "second".getBytes(), ONLINE));
+        });
+        frames(nearCache, 1L);
+        ExecutorService refresher = Executors.newSingleThreadExecutor();
+        Future<List<MonitoringFrame>> refreshed = refresher.submit(() -> frames(nearCache, 1L));
+        refreshing.await(1, TimeUnit.SECONDS);
+
+        // when
+        List<MonitoringFrame> result = frames(nearCache, 1L);
+        release.countDown();
+
+        // then
+        assertThat(result).extracting(MonitoringFrame::getVersion).containsExactly("v1");
+        assertThat(refreshed.get(1, TimeUnit.SECONDS)).extracting(MonitoringFrame::getVersion).containsExactly("v2");
+        refresher.shutdown();
+    }
+
+    @DisplayName("비어 있는 오래된 스냅샷은 정리되어 다음 조회 시 새로 만든다.")
+    @Test
+    void removeEmptySnapshot() {
+        // given
+        MonitoringFrameNearCache nearCache = new MonitoringFrameNearCache(
+                monitoringImageRedisRepository, new SimpleMeterRegistry(), 0, 1024, 0);
+        given(monitoringImageRedisRepository.findFrames(1L, Map.of(), FULL)).willReturn(List.of());
+
+        // when
+        frames(nearCache, 1L);
+        nearCache.update(1L, 2L, FULL, "v1", 1L, "first".getBytes());
+        List<MonitoringFrame> result = frames(nearCache, 1L);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(monitoringImageRedisRepository, times(2)).findFrames(1L, Map.of(), FULL);
+    }
+
+    @DisplayName("접속 기준 시각이 지난 학생의 이미지는 제외하고, 다시 업로드하면 바로 포함한다.")
+    @Test
+    void skipOfflineMember() {
+        // given
+        MonitoringFrameNearCache nearCache = new MonitoringFrameNearCache(
+                monitoringImageRedisRepository, new SimpleMeterRegistry(), 60_000, 1024, 60_000);
+        given(monitoringImageRedisRepository.findFrames(1L, Map.of(), FULL)).willReturn(List.of(
+                new MonitoringFrame(2L, "v1", "first".getBytes(), ONLINE),
+                new MonitoringFrame(3L, "v1", "other".getBytes(), 0L)));
+
+        // when
+        List<MonitoringFrame> offline = frames(nearCache, 1L);
+        nearCache.touch(1L, 3L, ONLINE);
+        List<MonitoringFrame> online = frames(nearCache, 1L);
+
+        // then
+        assertThat(offline).extracting(MonitoringFrame::getMemberId).containsExactly(2L);
+        assertThat(online).extracting(MonitoringFrame::getMemberId).containsExactly(2L, 3L);
+        verify(monitoringImageRedisRepository, times(1)).findFrames(eq(1L), anyMap(), eq(FULL));
+    }
+
+    private List<MonitoringFrame> frames(MonitoringFrameNearCache nearCache, long lectureId) {
+        return nearCache.getFrames(lectureId, FULL, (memberId, version, payload) -> {
+            byte[] image = new byte[payload.remaining()];
+            payload.get(image);
+            return new MonitoringFrame(memberId, version, image);
+        });
+    }
+}
@@ -0,0 +1,94 @@
+package com.didacto.service.monitoring;
+
+import com.didacto.config.rabbitmq.MonitoringEventTopology;
+import com.didacto.config.rabbitmq.MonitoringImageEventMessageConverter;
+import com.didacto.dto.monitoring.MonitoringImageEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.scheduling.TaskScheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MonitoringImageEventPublisherTest {
+
+    @Mock
+    RabbitTemplate rabbitTemplate;
+
+    @Mock
+    MonitoringEventTopology topology;
+
+    @Mock
+    TaskScheduler taskScheduler;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    MonitoringImageEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new MonitoringImageEventPublisher(rabbitTemplate, topology, meterRegistry, taskScheduler, 16, 20);
+    }
+
+    @DisplayName("모아둔 이벤트는 학생별 최신 프레임만 남기고 강의 단위로 묶어서 발행한다.")
+    @Test
+    void flushBatchPerLecture() {
+        // given
+        given(rabbitTemplate.getMessageConverter())
+                .willReturn(new MonitoringImageEventMessageConverter(new Jackson2JsonMessageConverter()));
+        given(topology.getExchange()).willReturn("exchange");
+        given(topology.getRoutingKey(anyLong())).willAnswer(invocation -> "lecture." + invocation.getArgument(0));
+        publisher.publish(MonitoringImageEvent.createDataEvent(1L, 10L, "first".getBytes()));
+        publisher.publish(MonitoringImageEvent.createDataEvent(2L, 20L, "other".getBytes()));
+        publisher.publish(MonitoringImageEvent.createDataEvent(1L, 10L, "second".getBytes()));
+        publisher.publish(MonitoringImageEvent.createDataEvent(1L, 30L, "third".getBytes()));
+
+        // when
+        publisher.flush();
+
+        // then
+        ArgumentCaptor<Message> lectureOne = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).send(eq("exchange"), eq("lecture.1"), lectureOne.capture(), any(CorrelationData.class));
+        verify(rabbitTemplate, times(1)).send(eq("exchange"), eq("lecture.2"), any(Message.class), any(CorrelationData.class));
+        assertThat((Integer) lectureOne.getValue().getMessageProperties().getHeader(AmqpHeaders.BATCH_SIZE)).isEqualTo(2);
+        assertThat(meterRegistry.counter("monitoring.publisher.frames", "result", "conflated").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("monitoring.publisher.frames", "result", "published").count()).isEqualTo(3);
+    }
+
+    @DisplayName("발행 큐가 가득 차면 가장 오래된 이벤트를 버린다.")
+    @Test
+    void dropOldestWhenQueueFull() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MonitoringImageEventPublisher publisher =
+                new MonitoringImageEventPublisher(rabbitTemplate, topology, meterRegistry, taskScheduler, 2, 20);
+
+        // when
+        publisher.publish(MonitoringImageEvent.createDataEvent(1L, 10L, "first".getBytes()));
+        publisher.publish(MonitoringImageEvent.createDataEvent(1L, 20L, "second".getBytes()));
+        publisher.publish(MonitoringImageEvent.createDataEvent(1L, 30L, "third".getBytes()));
+
+        // then
+        assertThat(meterRegistry.get("monitoring.publisher.queue.depth").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.counter("monitoring.publisher.frames", "result", "dropped").count()).isEqualTo(1);
+        verify(rabbitTemplate, never()).send(any(), any(), any(Message.class), any(CorrelationData.class));
+    }
+}
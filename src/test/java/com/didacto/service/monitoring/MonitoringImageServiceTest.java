@@ -0,0 +1,199 @@
+package com.didacto.service.monitoring;
+
+import com.didacto.config.exception.custom.exception.PreconditionFailException412;
+import com.didacto.dto.monitoring.MonitoringFrameSaveResult;
+import com.didacto.dto.monitoring.MonitoringImage;
+import com.didacto.dto.monitoring.MonitoringUploadResponse;
+import com.didacto.dto.monitoring.MonitoringImageResolution;
+import com.didacto.infra.redis.MonitoringImageRedisRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MonitoringImageServiceTest {
+
+    MonitoringImageService monitoringImageService;
+
+    @Mock
+    MonitoringImageRedisRepository monitoringImageRedisRepository;
+
+    @Mock
+    MonitoringImageEventService monitoringImageEventService;
+
+    @Mock
+    MonitoringThumbnailService monitoringThumbnailService;
+
+    @Mock
+    MonitoringFrameNearCache monitoringFrameNearCache;
+
+    @Mock
+    MonitoringSessionService monitoringSessionService;
+
+    @Mock
+    MonitoringUploadRateService monitoringUploadRateService;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    static final MonitoringFrameSaveResult STORED = new MonitoringFrameSaveResult(true, 1000, Long.MAX_VALUE, 1L);
+    static final MonitoringFrameSaveResult UNCHANGED = new MonitoringFrameSaveResult(false, 1000, Long.MAX_VALUE, 1L);
+
+    @BeforeEach
+    void beforeEach() {
+        monitoringImageService = new MonitoringImageService(monitoringImageRedisRepository, monitoringImageEventService,
+                monitoringThumbnailService, monitoringFrameNearCache, monitoringSessionService,
+                monitoringUploadRateService, meterRegistry);
+    }
+
+    @DisplayName("data URL 형식의 Base64 이미지는 원본 바이트로 변환하여 저장한다.")
+    @Test
+    void uploadBase64() {
+        // given
+        byte[] image = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0};
+        String encoded = "data:image/jpeg;base64," + Base64.getEncoder().encodeToString(image);
+        given(monitoringImageRedisRepository.saveFrame(eq(1L), eq(2L), eq(image), anyString(), any())).willReturn(STORED);
+
+        // when
+        monitoringImageService.upload(1L, 2L, encoded);
+
+        // then
+        verify(monitoringImageRedisRepository).saveFrame(eq(1L), eq(2L), eq(image), anyString(), any());
+    }
+
+    @DisplayName("바이너리 업로드는 요청 본문의 바이트를 그대로 저장한다.")
+    @Test
+    void uploadBinary() {
+        // given
+        byte[] image = {(byte) 0xFF, (byte) 0xD8, 0x01, 0x02};
+        given(monitoringImageRedisRepository.saveFrame(eq(1L), eq(2L), eq(image), anyString(), any())).willReturn(STORED);
+
+        // when
+        MonitoringUploadResponse response = monitoringImageService.upload(1L, 2L, new ByteArrayInputStream(image), image.length);
+
+        // then
+        assertThat(response.getNextUploadIntervalMs()).isEqualTo(1000);
+        verify(monitoringThumbnailService).generate(eq(1L), eq(2L), eq(image), anyString(), eq(1L));
+    }
+
+    @DisplayName("직전 화면과 같은 이미지는 다시 전달하지 않고 생략 비율에 반영한다.")
+    @Test
+    void uploadUnchangedFrame() {
+        // given
+        byte[] image = {(byte) 0xFF, (byte) 0xD8, 0x01, 0x02};
+        given(monitoringImageRedisRepository.saveFrame(eq(1L), eq(2L), eq(image), anyString(), any()))
+                .willReturn(STORED, UNCHANGED, UNCHANGED, UNCHANGED);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            monitoringImageService.upload(1L, 2L, image);
+        }
+
+        // then
+        verify(monitoringFrameNearCache, times(4)).touch(eq(1L), eq(2L), anyLong());
+        verify(monitoringImageEventService, times(1)).pushEvent(any());
+        verify(monitoringThumbnailService, times(1)).generate(eq(1L), eq(2L), eq(image), anyString(), eq(1L));
+        assertThat(meterRegistry.get("monitoring.upload.suppression.ratio").gauge().value()).isEqualTo(0.75);
+    }
+
+    @DisplayName("허용 크기를 초과하는 이미지는 저장하지 않는다.")
+    @Test
+    void uploadTooLarge() {
+        // given
+        byte[] image = new byte[MonitoringImageService.MAX_IMAGE_SIZE + 1];
+
+        // when, then
+        assertThatThrownBy(() -> monitoringImageService.upload(1L, 2L, new ByteArrayInputStream(image), -1))
+                .isInstanceOf(PreconditionFailException412.class);
+        verify(monitoringImageRedisRepository, never()).saveFrame(anyLong(), anyLong(), any(), any(), any());
+    }
+
+    @DisplayName("Base64 형식이 아닌 이미지는 저장하지 않는다.")
+    @Test
+    void uploadInvalidBase64() {
+        // when, then
+        assertThatThrownBy(() -> monitoringImageService.upload(1L, 2L, "not-base64!!"))
+                .isInstanceOf(PreconditionFailException412.class);
+        verify(monitoringImageRedisRepository, never()).saveFrame(anyLong(), anyLong(), any(), any(), any());
+    }
+
+    @DisplayName("보유한 버전과 같은 이미지는 내용 없이 버전만 반환하고, 학생 번호 순으로 정렬한다.")
+    @Test
+    void getImagesWithKnownVersions() {
+        // given
+        byte[] image = {(byte) 0xFF, (byte) 0xD8};
+        Map<Long, String> knownVersions = Map.of(3L, "v3");
+        given(monitoringFrameNearCache.getFrames(eq(1L), eq(MonitoringImageResolution.FULL), any()))
+                .willAnswer(invocation -> {
+                    MonitoringFrameNearCache.FrameReader<?> reader = invocation.getArgument(2);
+                    return List.of(
+                            reader.read(3L, "v3", ByteBuffer.wrap(image)),
+                            reader.read(2L, "v2", ByteBuffer.wrap(image))
+                    );
+                });
+
+        // when
+        List<MonitoringImage> result = monitoringImageService.getImages(1L, knownVersions, MonitoringImageResolution.FULL);
+
+        // then
+        assertThat(result)
+                .extracting("memberId", "version", "encodedImageBase64")
+                .containsExactly(
+                        tuple(2L, "v2", "data:image/jpeg;base64," + Base64.getEncoder().encodeToString(image)),
+                        tuple(3L, "v3", null)
+                );
+    }
+
+    @DisplayName("스트리밍 응답은 폴링 응답과 같은 형식으로 이미지를 하나씩 출력한다.")
+    @Test
+    void writeImages() throws IOException {
+        // given
+        byte[] image = {(byte) 0xFF, (byte) 0xD8};
+        willAnswer(invocation -> {
+            MonitoringFrameNearCache.FrameConsumer consumer = invocation.getArgument(2);
+            consumer.accept(2L, "v2", ByteBuffer.wrap(image));
+            consumer.accept(3L, "v3", ByteBuffer.wrap(image));
+            return null;
+        }).given(monitoringFrameNearCache).forEachFrame(eq(1L), eq(MonitoringImageResolution.FULL), any());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        monitoringImageService.writeImages(1L, Map.of(3L, "v3"), MonitoringImageResolution.FULL, outputStream);
+
+        // then
+        JsonNode body = new ObjectMapper().readTree(outputStream.toByteArray());
+        assertThat(body.get("success").asBoolean()).isTrue();
+        assertThat(body.get("status").asText()).isEqualTo("OK");
+        assertThat(body.get("response")).hasSize(2);
+        assertThat(body.get("response").get(0).get("encodedImageBase64").asText())
+                .isEqualTo("data:image/jpeg;base64," + Base64.getEncoder().encodeToString(image));
+        assertThat(body.get("response").get(1).get("encodedImageBase64").isNull()).isTrue();
+        assertThat(body.get("response").get(1).get("version").asText()).isEqualTo("v3");
+    }
+}
@@ -0,0 +1,78 @@
+package com.didacto.service.monitoring;
+
+import com.didacto.config.rabbitmq.MonitoringEventTopology;
+import com.didacto.dto.monitoring.MonitoringImageEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import reactor.core.Disposable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MonitoringImageSinkRegistryTest {
+
+    @Mock
+    MonitoringEventTopology topology;
+
+    MonitoringImageSinkRegistry sinkRegistry;
+
+    @BeforeEach
+    void beforeEach() {
+        sinkRegistry = new MonitoringImageSinkRegistry(topology, new SimpleAsyncTaskExecutor());
+    }
+
+    @DisplayName("이벤트는 해당 강의의 구독자에게만 전달된다.")
+    @Test
+    void emitToLectureSubscribers() {
+        // given
+        List<MonitoringImageEvent> lecture1Events = new ArrayList<>();
+        List<MonitoringImageEvent> lecture2Events = new ArrayList<>();
+        Disposable subscriber1 = sinkRegistry.subscribe(1L).subscribe(lecture1Events::add);
+        Disposable subscriber2 = sinkRegistry.subscribe(2L).subscribe(lecture2Events::add);
+
+        // when
+        sinkRegistry.emit(MonitoringImageEvent.createDataEvent(1L, 10L, "image".getBytes()));
+
+        // then
+        assertThat(lecture1Events).extracting("memberId").containsExactly(10L);
+        assertThat(lecture2Events).isEmpty();
+
+        subscriber1.dispose();
+        subscriber2.dispose();
+    }
+
+    @DisplayName("마지막 구독자가 떠나면 강의의 Sink 를 제거하고, 다시 구독하면 새로 생성한다.")
+    @Test
+    void removeSinkWhenLastSubscriberLeaves() {
+        // given
+        List<MonitoringImageEvent> events = new ArrayList<>();
+        Disposable subscriber1 = sinkRegistry.subscribe(1L).subscribe();
+        Disposable subscriber2 = sinkRegistry.subscribe(1L).subscribe();
+        assertThat(sinkRegistry.getSubscriberCount(1L)).isEqualTo(2);
+
+        // when
+        subscriber1.dispose();
+        subscriber2.dispose();
+
+        // then
+        assertThat(sinkRegistry.getSubscriberCount(1L)).isZero();
+        verify(topology, timeout(1000)).unbindLecture(1L);
+
+        Disposable subscriber3 = sinkRegistry.subscribe(1L).subscribe(events::add);
+        sinkRegistry.emit(MonitoringImageEvent.createDataEvent(1L, 10L, "image".getBytes()));
+        assertThat(events).hasSize(1);
+        verify(topology, times(2)).bindLecture(1L);
+        subscriber3.dispose();
+    }
+}
@@ -0,0 +1,129 @@
+package com.didacto.service.monitoring;
+
+import com.didacto.config.exception.custom.exception.ForbiddenException403;
+import com.didacto.domain.Lecture;
+import com.didacto.domain.Member;
+import com.didacto.dto.monitoring.MonitoringPresence;
+import com.didacto.infra.redis.MonitoringImageRedisRepository;
+import com.didacto.infra.redis.MonitoringSessionRedisRepository;
+import com.didacto.service.lecture.LectureQueryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MonitoringSessionServiceTest {
+
+    MonitoringSessionService monitoringSessionService;
+
+    @Mock
+    MonitoringSessionRedisRepository monitoringSessionRedisRepository;
+
+    @Mock
+    MonitoringImageRedisRepository monitoringImageRedisRepository;
+
+    @Mock
+    LectureQueryService lectureQueryService;
+
+    @BeforeEach
+    void beforeEach() {
+        monitoringSessionService = new MonitoringSessionService(
+                monitoringSessionRedisRepository, monitoringImageRedisRepository, lectureQueryService, 30000, 15000);
+    }
+
+    // tutorId 교수자가 소유한 강의
+    private void givenLectureOwnedBy(long lectureId, long tutorId) {
+        Member owner = Member.builder().id(tutorId).build();
+        given(lectureQueryService.queryOne(lectureId)).willReturn(Lecture.builder().id(lectureId).owner(owner).build());
+    }
+
+    @DisplayName("학생별 접속 상태를 학생 번호 순으로 정렬한다.")
+    @Test
+    void getPresences() {
+        // given
+        givenLectureOwnedBy(1L, 10L);
+        long now = System.currentTimeMillis();
+        given(monitoringImageRedisRepository.findPresences(1L)).willReturn(List.of(
+                new MonitoringPresence(1L, 3L, false, now - 30_000),
+                new MonitoringPresence(1L, 2L, true, now - 1_000)));
+
+        // when
+        List<MonitoringPresence> result = monitoringSessionService.getPresences(1L, 10L);
+
+        // then
+        assertThat(result)
+                .extracting(MonitoringPresence::getMemberId, MonitoringPresence::isOnline)
+                .containsExactly(tuple(2L, true), tuple(3L, false));
+    }
+
+    @DisplayName("세션이 없는 학생은 미접속이며 마지막 업로드 시각이 없다.")
+    @Test
+    void getPresenceWithoutSession() {
+        // given
+        givenLectureOwnedBy(1L, 10L);
+        given(monitoringImageRedisRepository.findPresence(1L, 2L)).willReturn(Optional.empty());
+
+        // when
+        MonitoringPresence result = monitoringSessionService.getPresence(1L, 2L, 10L);
+
+        // then
+        assertThat(result.isOnline()).isFalse();
+        assertThat(result.getLastSeenAt()).isNull();
+    }
+
+    @DisplayName("업로드 연결이 닫히면 다음 업로드 예정 시각을 기다리지 않고 미접속으로 표시한다.")
+    @Test
+    void leave() {
+        // when
+        monitoringSessionService.leave(1L, 2L);
+
+        // then
+        verify(monitoringImageRedisRepository).removePresence(1L, 2L);
+    }
+
+    @DisplayName("강의 소유자는 확대하여 볼 학생을 지정할 수 있다.")
+    @Test
+    void focus() {
+        // given
+        givenLectureOwnedBy(1L, 10L);
+
+        // when
+        monitoringSessionService.focus(1L, 2L, 10L);
+
+        // then
+        verify(monitoringSessionRedisRepository).setFocus(1L, 2L, 30000);
+    }
+
+    @DisplayName("강의 소유자가 아니면 확대 지정, 해제와 접속 상태 조회가 거부된다.")
+    @Test
+    void rejectNotOwner() {
+        // given
+        givenLectureOwnedBy(1L, 10L);
+
+        // when & then
+        assertThatThrownBy(() -> monitoringSessionService.focus(1L, 2L, 11L))
+                .isInstanceOf(ForbiddenException403.class);
+        assertThatThrownBy(() -> monitoringSessionService.clearFocus(1L, 11L))
+                .isInstanceOf(ForbiddenException403.class);
+        assertThatThrownBy(() -> monitoringSessionService.getPresences(1L, 11L))
+                .isInstanceOf(ForbiddenException403.class);
+        assertThatThrownBy(() -> monitoringSessionService.getPresence(1L, 2L, 11L))
+                .isInstanceOf(ForbiddenException403.class);
+        verify(monitoringSessionRedisRepository, never()).setFocus(anyLong(), anyLong(), anyLong());
+        verify(monitoringSessionRedisRepository, never()).removeFocus(anyLong());
+    }
+}
@@ -0,0 +1,101 @@
+package com.didacto.service.monitoring;
+
+import com.didacto.dto.monitoring.MonitoringImageEvent;
+import com.didacto.dto.monitoring.MonitoringImageResolution;
+import com.didacto.infra.redis.MonitoringImageRedisRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MonitoringThumbnailServiceTest {
+
+    MonitoringThumbnailService monitoringThumbnailService;
+
+    @Mock
+    MonitoringImageRedisRepository monitoringImageRedisRepository;
+
+    @Mock
+    MonitoringImageEventService monitoringImageEventService;
+
+    @Mock
+    MonitoringFrameNearCache monitoringFrameNearCache;
+
+    @BeforeEach
+    void beforeEach() {
+        monitoringThumbnailService = new MonitoringThumbnailService(monitoringImageRedisRepository,
+                monitoringImageEventService, monitoringFrameNearCache, new SimpleMeterRegistry(), 320, 0.6f, 1, 1, 16_777_216);
+    }
+
+    @DisplayName("원본 이미지를 가로 320px 로 축소하여 저장하고 THUMB 이벤트로 전달한다.")
+    @Test
+    void createThumbnail() throws IOException {
+        // given
+        byte[] image = jpeg(1280, 720);
+        given(monitoringImageRedisRepository.saveThumbnail(eq(1L), eq(2L), any(), eq("v1"))).willReturn(true);
+
+        // when
+        monitoringThumbnailService.createThumbnail(1L, 2L, image, "v1", 1L);
+
+        // then
+        ArgumentCaptor<MonitoringImageEvent> event = ArgumentCaptor.forClass(MonitoringImageEvent.class);
+        verify(monitoringImageEventService).pushEvent(event.capture());
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(event.getValue().getImage()));
+        assertThat(event.getValue().getResolution()).isEqualTo(MonitoringImageResolution.THUMB);
+        assertThat(thumbnail.getWidth()).isEqualTo(320);
+        assertThat(thumbnail.getHeight()).isEqualTo(180);
+    }
+
+    @DisplayName("생성 도중 새 이미지가 업로드되어 저장되지 않은 썸네일은 전달하지 않는다.")
+    @Test
+    void skipOutdatedThumbnail() throws IOException {
+        // given
+        given(monitoringImageRedisRepository.saveThumbnail(anyLong(), anyLong(), any(), anyString())).willReturn(false);
+
+        // when
+        monitoringThumbnailService.createThumbnail(1L, 2L, jpeg(640, 480), "v1", 1L);
+
+        // then
+        verify(monitoringImageEventService, never()).pushEvent(any());
+    }
+
+    @DisplayName("헤더의 가로*세로가 max-pixels 를 넘는 이미지는 디코딩하지 않고 실패 처리한다.")
+    @Test
+    void rejectOversizedImage() throws IOException {
+        // given
+        monitoringThumbnailService = new MonitoringThumbnailService(monitoringImageRedisRepository,
+                monitoringImageEventService, monitoringFrameNearCache, new SimpleMeterRegistry(), 320, 0.6f, 1, 1, 640 * 480);
+
+        // when
+        monitoringThumbnailService.createThumbnail(1L, 2L, jpeg(1280, 720), "v1", 1L);
+
+        // then
+        verify(monitoringImageRedisRepository, never()).saveThumbnail(anyLong(), anyLong(), any(), anyString());
+    }
+
+    private byte[] jpeg(int width, int height) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpeg", output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,58 @@
+package com.didacto.service.monitoring;
+
+import com.didacto.dto.monitoring.MonitoringUploadIntervals;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class MonitoringUploadRateServiceTest {
+
+    MonitoringUploadRateService monitoringUploadRateService;
+
+    @Mock
+    MonitoringImageSinkRegistry sinkRegistry;
+
+    @BeforeEach
+    void beforeEach() {
+        // 최대 배율 1 : 테스트 환경의 부하와 관계없이 기본 주기만 검증
+        monitoringUploadRateService = new MonitoringUploadRateService(sinkRegistry,
+                new SimpleMeterRegistry(), 250, 1000, 5000, 1, 3000);
+    }
+
+    @DisplayName("확대 중인 학생, 조회 중인 강의, 조회하지 않는 강의의 주기 후보를 함께 전달한다.")
+    @Test
+    void idleLecture() {
+        // given
+        given(sinkRegistry.getSubscriberCount(1L)).willReturn(0);
+
+        // when
+        MonitoringUploadIntervals intervals = monitoringUploadRateService.getIntervals(1L);
+
+        // then
+        assertThat(intervals.getFocusInterval()).isEqualTo(250);
+        assertThat(intervals.getWatchedInterval()).isEqualTo(1000);
+        assertThat(intervals.getIdleInterval()).isEqualTo(5000);
+        assertThat(intervals.getOfflineGrace()).isEqualTo(3000);
+    }
+
+    @DisplayName("이 인스턴스에 스트림 구독자가 있는 강의는 조회 중인 강의와 같은 주기로 업로드한다.")
+    @Test
+    void subscribedLecture() {
+        // given
+        given(sinkRegistry.getSubscriberCount(1L)).willReturn(1);
+
+        // when
+        MonitoringUploadIntervals intervals = monitoringUploadRateService.getIntervals(1L);
+
+        // then
+        assertThat(intervals.getIdleInterval()).isEqualTo(1000);
+    }
+}